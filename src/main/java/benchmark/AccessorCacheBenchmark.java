@@ -0,0 +1,74 @@
+package benchmark;
+
+import benchmark.access.AccessorCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache hits of {@link AccessorCache} compared with resolving the member on every call, which is the path that
+ * {@link LookupBenchmark#handle()} measures against the same in-class target.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccessorCacheBenchmark {
+
+    private String name = "method", fieldName = "value";
+
+    private Object value = "foo";
+
+    private Class<?> returnType = void.class, declaringType = AccessorCacheBenchmark.class;
+
+    private AccessorCache cache;
+
+    void method() {
+        /* empty */
+    }
+
+    @FunctionalInterface
+    interface CustomFunction<E> {
+        void run(E target);
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        cache = new AccessorCache(MethodHandles.lookup());
+        cache.method(declaringType, name);
+        cache.getter(declaringType, fieldName);
+        cache.accessor(CustomFunction.class, declaringType, name);
+    }
+
+    @Benchmark
+    public MethodHandle handle() throws Exception {
+        return MethodHandles.lookup().findVirtual(declaringType, name, MethodType.methodType(returnType));
+    }
+
+    @Benchmark
+    public MethodHandle cachedMethod() throws Exception {
+        return cache.method(declaringType, name);
+    }
+
+    @Benchmark
+    public void cachedMethodInvoked() throws Throwable {
+        cache.method(declaringType, name).invokeExact((Object) this);
+    }
+
+    @Benchmark
+    public MethodHandle cachedGetter() throws Exception {
+        return cache.getter(declaringType, fieldName);
+    }
+
+    @Benchmark
+    public Object cachedGetterInvoked() throws Throwable {
+        return (Object) cache.getter(declaringType, fieldName).invokeExact((Object) this);
+    }
+
+    @Benchmark
+    public Object cachedAccessor() throws Exception {
+        return cache.accessor(CustomFunction.class, declaringType, name);
+    }
+}
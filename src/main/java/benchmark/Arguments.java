@@ -0,0 +1,164 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Command line of {@link Main}. Flag names follow the JMH command line wherever JMH has an equivalent.
+ */
+final class Arguments {
+
+    final List<String> includes = new ArrayList<>(), excludes = new ArrayList<>();
+
+    final List<String> profilers = new ArrayList<>(), jvmArgs = new ArrayList<>();
+
+    /**
+     * JDKs to run every suite under, empty to only fork the JVM that runs {@link Main}.
+     */
+    final List<Jvm> jvms = new ArrayList<>();
+
+    final List<Integer> threads = new ArrayList<>();
+
+    /**
+     * Explicit run configuration overrides, {@code null} unless given on the command line.
+     */
+    Integer forks, warmupIterations, measurementIterations;
+
+    Mode mode;
+
+    TimeValue warmupTime, measurementTime;
+
+    File output = new File(".");
+
+    boolean combined, list, help;
+
+    static Arguments parse(String... args) {
+        Arguments arguments = new Arguments();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "-e":
+                    arguments.excludes.add(value(args, ++i, arg));
+                    break;
+                case "-bm":
+                    arguments.mode = mode(args, ++i, arg);
+                    break;
+                case "-f":
+                    arguments.forks = number(args, ++i, arg);
+                    break;
+                case "-wi":
+                    arguments.warmupIterations = number(args, ++i, arg);
+                    break;
+                case "-w":
+                    arguments.warmupTime = time(args, ++i, arg);
+                    break;
+                case "-i":
+                    arguments.measurementIterations = number(args, ++i, arg);
+                    break;
+                case "-r":
+                    arguments.measurementTime = time(args, ++i, arg);
+                    break;
+                case "-t":
+                    for (String count : value(args, ++i, arg).split(",")) {
+                        arguments.threads.add(count.trim().equalsIgnoreCase("max") ? Threads.MAX : Integer.parseInt(count.trim()));
+                    }
+                    break;
+                case "-prof":
+                    arguments.profilers.add(value(args, ++i, arg));
+                    break;
+                case "-gc":
+                    arguments.profilers.add("gc");
+                    break;
+                case "-jvm":
+                    arguments.jvms.add(Jvm.of(value(args, ++i, arg)));
+                    break;
+                case "-jvmArgs":
+                    arguments.jvmArgs.addAll(Arrays.asList(value(args, ++i, arg).trim().split("\\s+")));
+                    break;
+                case "-o":
+                    arguments.output = new File(value(args, ++i, arg));
+                    break;
+                case "-combined":
+                    arguments.combined = true;
+                    break;
+                case "-l":
+                    arguments.list = true;
+                    break;
+                case "-h":
+                case "-help":
+                    arguments.help = true;
+                    break;
+                default:
+                    if (arg.startsWith("-")) {
+                        throw new IllegalArgumentException("Unknown option " + arg);
+                    }
+                    arguments.includes.add(arg);
+            }
+        }
+        return arguments;
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + option);
+        }
+        return args[index];
+    }
+
+    private static int number(String[] args, int index, String option) {
+        try {
+            return Integer.parseInt(value(args, index, option));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Expected a number for " + option + ", got " + args[index]);
+        }
+    }
+
+    private static Mode mode(String[] args, int index, String option) {
+        try {
+            return Mode.deepValueOf(value(args, index, option));
+        } catch (IllegalStateException e) {
+            throw new IllegalArgumentException("Expected a benchmark mode like avgt or sample for " + option + ", got " + args[index]);
+        }
+    }
+
+    private static TimeValue time(String[] args, int index, String option) {
+        try {
+            return TimeValue.fromString(value(args, index, option));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Expected a time like 100ms for " + option + ", got " + args[index]);
+        }
+    }
+
+    static void printUsage(PrintStream out) {
+        out.println("Usage: Main [regexp*] [options]");
+        out.println();
+        out.println("  [regexp*]          Only run benchmarks whose name matches any of these patterns.");
+        out.println("  -e <regexp>        Skip benchmarks matching this pattern, may be repeated.");
+        out.println("  -bm <mode>         Benchmark mode for the average time suites, e.g. sample for latency percentiles.");
+        out.println("                     Single shot, throughput and pinned suites keep their own mode.");
+        out.println("  -f <int>           Forks per benchmark (default 2).");
+        out.println("  -wi <int>          Warmup iterations (default 5).");
+        out.println("  -w <time>          Warmup iteration time (default 100ms).");
+        out.println("  -i <int>           Measurement iterations (default 10).");
+        out.println("  -r <time>          Measurement iteration time (default 100ms).");
+        out.println("                     Suites annotated with @Fork keep their own settings unless overridden.");
+        out.println("  -t <int,...>       Thread counts to run every benchmark with, 'max' for all cores.");
+        out.println("  -prof <profiler>   Attach a JMH profiler, e.g. gc or stack:lines=5, may be repeated.");
+        out.println("  -gc                Shorthand for -prof gc.");
+        out.println("  -jvm <path>        JDK home or java executable to fork into, may be repeated to compare JDKs.");
+        out.println("                     Rows are then tagged with the JDK and merged into one CSV per suite,");
+        out.println("                     suites compiled for a newer release than a JDK are skipped on it.");
+        out.println("  -jvmArgs <string>  Additional arguments for the forked JVMs.");
+        out.println("  -o <dir>           Directory the CSV files are written to (default current directory).");
+        out.println("  -combined          Schedule all suites in one JMH run instead of one run per suite.");
+        out.println("  -l                 List the matching benchmarks and exit.");
+        out.println("  -h                 Show this help.");
+    }
+}
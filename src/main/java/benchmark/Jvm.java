@@ -0,0 +1,93 @@
+package benchmark;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * A locally installed JDK that benchmarks are forked into, given either as its home directory or as its
+ * {@code java} executable.
+ */
+final class Jvm {
+
+    final String executable;
+
+    /**
+     * The feature release, such as 8 or 21, or {@code 0} if the JDK has no {@code release} file.
+     */
+    final int feature;
+
+    private Jvm(String executable, int feature) {
+        this.executable = executable;
+        this.feature = feature;
+    }
+
+    static Jvm of(String path) {
+        File location = new File(path), home;
+        if (location.isDirectory()) {
+            home = location;
+            location = new File(new File(home, "bin"), File.separatorChar == '\\' ? "java.exe" : "java");
+        } else {
+            File bin = location.getAbsoluteFile().getParentFile();
+            home = bin == null ? null : bin.getParentFile();
+        }
+        if (!location.isFile()) {
+            throw new IllegalArgumentException("No java executable at " + location);
+        }
+        return new Jvm(location.getPath(), home == null ? 0 : feature(new File(home, "release")));
+    }
+
+    /**
+     * Reads {@code JAVA_VERSION} from the release file, such as {@code "1.8.0_392"} for Java 8 and {@code "17.0.9"}
+     * for later releases.
+     */
+    private static int feature(File release) {
+        if (!release.isFile()) {
+            return 0;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = new FileInputStream(release)) {
+            properties.load(in);
+        } catch (IOException e) {
+            return 0;
+        }
+        String version = properties.getProperty("JAVA_VERSION", "").replace("\"", "");
+        if (version.startsWith("1.")) {
+            version = version.substring(2);
+        }
+        int end = 0;
+        while (end < version.length() && Character.isDigit(version.charAt(end))) {
+            end++;
+        }
+        return end == 0 ? 0 : Integer.parseInt(version.substring(0, end));
+    }
+
+    /**
+     * Whether this JDK can load a suite, which it cannot if the suite was compiled by the java9 or java17 profile
+     * for a newer release.
+     */
+    boolean supports(String suite) {
+        if (feature == 0) {
+            return true;
+        }
+        try (InputStream in = Jvm.class.getClassLoader().getResourceAsStream(suite.replace('.', '/') + ".class")) {
+            if (in == null) {
+                return false;
+            }
+            DataInputStream data = new DataInputStream(in);
+            data.readInt();
+            data.readUnsignedShort();
+            return data.readUnsignedShort() <= 44 + feature;
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return executable;
+    }
+}
@@ -0,0 +1,143 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The lookups of {@link LookupBenchmark} against generated classes of increasing size, for every kind of member and
+ * with the member caches a framework would put in front of them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LookupMembersBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int members;
+
+    private String name = "method", staticName = "staticMethod", fieldName = "value";
+
+    private MethodHandles.Lookup lookup;
+
+    private MethodType methodType;
+
+    private Class<?> returnType = void.class, fieldType = String.class, declaringType;
+
+    private Method method;
+
+    private final ClassValue<ConcurrentMap<String, MethodHandle>> classValueCache = new ClassValue<ConcurrentMap<String, MethodHandle>>() {
+        @Override
+        protected ConcurrentMap<String, MethodHandle> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final ConcurrentMap<Class<?>, ConcurrentMap<String, MethodHandle>> concurrentHashMapCache = new ConcurrentHashMap<>();
+
+    @Setup
+    public void setup() throws Exception {
+        declaringType = LookupTargets.define(members);
+        lookup = MethodHandles.lookup();
+        methodType = MethodType.methodType(void.class);
+        method = declaringType.getDeclaredMethod(name);
+        cachedClassValue();
+        cachedConcurrentHashMap();
+    }
+
+    @Benchmark
+    public Method reflection() throws Exception {
+        return declaringType.getDeclaredMethod(name);
+    }
+
+    @Benchmark
+    public Method reflectionPublic() throws Exception {
+        return declaringType.getMethod(name);
+    }
+
+    @Benchmark
+    public Method reflectionMethods() throws Exception {
+        for (Method method : declaringType.getMethods()) {
+            if (method.getName().equals(name) && method.getParameterCount() == 0) {
+                return method;
+            }
+        }
+        throw new NoSuchMethodException(name);
+    }
+
+    @Benchmark
+    public MethodHandle handle() throws Exception {
+        return MethodHandles.lookup().findVirtual(declaringType, name, MethodType.methodType(returnType));
+    }
+
+    @Benchmark
+    public MethodHandle handlePreLookedUp() throws Exception {
+        return lookup.findVirtual(declaringType, name, methodType);
+    }
+
+    @Benchmark
+    public MethodHandle handleStatic() throws Exception {
+        return lookup.findStatic(declaringType, staticName, methodType);
+    }
+
+    @Benchmark
+    public MethodHandle handleGetter() throws Exception {
+        return lookup.findGetter(declaringType, fieldName, fieldType);
+    }
+
+    @Benchmark
+    public MethodHandle handleSetter() throws Exception {
+        return lookup.findSetter(declaringType, fieldName, fieldType);
+    }
+
+    @Benchmark
+    public MethodHandle handleConstructor() throws Exception {
+        return lookup.findConstructor(declaringType, methodType);
+    }
+
+    @Benchmark
+    public MethodHandle unreflect() throws Exception {
+        return lookup.unreflect(declaringType.getDeclaredMethod(name));
+    }
+
+    @Benchmark
+    public MethodHandle unreflectPreResolved() throws Exception {
+        return lookup.unreflect(method);
+    }
+
+    @Benchmark
+    public MethodHandle cachedClassValue() throws Exception {
+        return cached(classValueCache.get(declaringType));
+    }
+
+    @Benchmark
+    public MethodHandle cachedConcurrentHashMap() throws Exception {
+        ConcurrentMap<String, MethodHandle> members = concurrentHashMapCache.get(declaringType);
+        if (members == null) {
+            members = new ConcurrentHashMap<>();
+            ConcurrentMap<String, MethodHandle> previous = concurrentHashMapCache.putIfAbsent(declaringType, members);
+            if (previous != null) {
+                members = previous;
+            }
+        }
+        return cached(members);
+    }
+
+    private MethodHandle cached(ConcurrentMap<String, MethodHandle> members) throws Exception {
+        MethodHandle cached = members.get(name);
+        if (cached == null) {
+            cached = lookup.findVirtual(declaringType, name, methodType);
+            MethodHandle previous = members.putIfAbsent(name, cached);
+            if (previous != null) {
+                cached = previous;
+            }
+        }
+        return cached;
+    }
+}
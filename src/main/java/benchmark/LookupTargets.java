@@ -0,0 +1,66 @@
+package benchmark;
+
+import benchmark.access.ClassDefiner;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Defines classes with a given number of methods and fields such that member lookups can be measured by class size.
+ * Every class declares the looked up members last, after the padding members:
+ * <pre>
+ * public class Generated {
+ *     public String value;                  // after field0 to field(n - 2)
+ *     public static String staticValue;
+ *     private String privateValue;
+ *     public Generated() { }
+ *     public void method() { }              // after method0 to method(n - 2)
+ *     public static void staticMethod() { }
+ *     private void privateMethod() { }
+ * }
+ * </pre>
+ */
+final class LookupTargets {
+
+    private LookupTargets() {
+        /* static only */
+    }
+
+    static Class<?> define(int members) {
+        String name = LookupTargets.class.getName() + "$Generated" + members;
+        return new ClassDefiner(LookupTargets.class.getClassLoader()).define(name, () -> emit(name, members));
+    }
+
+    private static byte[] emit(String name, int members) {
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        writer.visit(V1_8, ACC_PUBLIC | ACC_SUPER, name.replace('.', '/'), null, "java/lang/Object", null);
+
+        for (int i = 0; i < members - 1; i++) {
+            writer.visitField(ACC_PUBLIC, "field" + i, "Ljava/lang/String;", null, null).visitEnd();
+        }
+        writer.visitField(ACC_PUBLIC, "value", "Ljava/lang/String;", null, null).visitEnd();
+        writer.visitField(ACC_PUBLIC | ACC_STATIC, "staticValue", "Ljava/lang/String;", null, null).visitEnd();
+        writer.visitField(ACC_PRIVATE, "privateValue", "Ljava/lang/String;", null, null).visitEnd();
+
+        ClassDefiner.emitConstructor(writer, "java/lang/Object");
+
+        for (int i = 0; i < members - 1; i++) {
+            empty(writer, ACC_PUBLIC, "method" + i);
+        }
+        empty(writer, ACC_PUBLIC, "method");
+        empty(writer, ACC_PUBLIC | ACC_STATIC, "staticMethod");
+        empty(writer, ACC_PRIVATE, "privateMethod");
+
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static void empty(ClassWriter writer, int modifiers, String name) {
+        MethodVisitor method = writer.visitMethod(modifiers, name, "()V", null, null);
+        method.visitCode();
+        method.visitInsn(RETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+    }
+}
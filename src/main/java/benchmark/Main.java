@@ -1,51 +1,358 @@
 package benchmark;
 
+import benchmark.bus.*;
+import benchmark.cache.*;
+import benchmark.compose.*;
+import benchmark.construct.pub.*;
+import benchmark.copy.*;
+import benchmark.construct.priv.*;
+import benchmark.field.cold.*;
 import benchmark.field.pub.*;
 import benchmark.field.priv.*;
+import benchmark.field.shared.*;
+import benchmark.ingest.*;
+import benchmark.invocation.arity.*;
+import benchmark.invocation.cold.*;
 import benchmark.invocation.pub.*;
+import benchmark.invocation.mega.*;
 import benchmark.invocation.priv.*;
-import org.openjdk.jmh.results.format.ResultFormatType;
+import benchmark.invocation.shared.*;
+import benchmark.serial.*;
+import benchmark.setter.pub.*;
+import benchmark.spin.*;
+import benchmark.setter.priv.*;
+import benchmark.proxy.*;
+import benchmark.report.CsvReport;
+import benchmark.report.JdkMatrix;
+import benchmark.scan.*;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.BenchmarkList;
+import org.openjdk.jmh.runner.BenchmarkListEntry;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
-import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.format.OutputFormatFactory;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.openjdk.jmh.runner.options.TimeValue;
+import org.openjdk.jmh.runner.options.VerboseMode;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.regex.Pattern;
 
 public class Main {
-    public static void main(String[] args) throws RunnerException {
-        run(FieldBenchmark.class);
-        run(FieldStaticBenchmark.class);
-        run(FieldPrimitiveBenchmark.class);
-        run(FieldPrimitiveStaticBenchmark.class);
-        run(FieldPrivateBenchmark.class);
-        run(FieldPrivateStaticBenchmark.class);
-        run(FieldPrivatePrimitiveBenchmark.class);
-        run(FieldPrivatePrimitiveStaticBenchmark.class);
-
-        run(InvocationBenchmark.class);
-        run(InvocationStaticBenchmark.class);
-        run(InvocationPrimitiveBenchmark.class);
-        run(InvocationPrimitiveStaticBenchmark.class);
-        run(InvocationPrivateBenchmark.class);
-        run(InvocationPrivateStaticBenchmark.class);
-        run(InvocationPrivatePrimitiveBenchmark.class);
-        run(InvocationPrivatePrimitiveStaticBenchmark.class);
-
-        run(LookupBenchmark.class);
-    }
-
-    private static void run(Class<?> clazz) throws RunnerException {
-        Options opt = new OptionsBuilder()
-            .include(clazz.getName())
-            .forks(2)
-            .measurementIterations(10)
-            .warmupIterations(5)
-            .measurementTime(TimeValue.milliseconds(100))
-            .warmupTime(TimeValue.milliseconds(100))
-            .resultFormat(ResultFormatType.CSV)
-            .result(clazz.getSimpleName() + ".csv")
-            .build();
-
-        new Runner(opt).run();
+
+    private static final List<String> SUITES = Arrays.asList(
+        FieldBenchmark.class.getName(),
+        FieldStaticBenchmark.class.getName(),
+        FieldPrimitiveBenchmark.class.getName(),
+        FieldPrimitiveStaticBenchmark.class.getName(),
+        FieldPrivateBenchmark.class.getName(),
+        FieldPrivateStaticBenchmark.class.getName(),
+        FieldPrivatePrimitiveBenchmark.class.getName(),
+        FieldPrivatePrimitiveStaticBenchmark.class.getName(),
+        FieldSharedBenchmark.class.getName(),
+        FieldColdBenchmark.class.getName(),
+
+        // only compiled with the java9 profile, skipped when absent
+        "benchmark.field.pub.FieldVarHandleBenchmark",
+        "benchmark.field.pub.FieldStaticVarHandleBenchmark",
+        "benchmark.field.pub.FieldPrimitiveVarHandleBenchmark",
+        "benchmark.field.pub.FieldPrimitiveStaticVarHandleBenchmark",
+        "benchmark.field.priv.FieldPrivateVarHandleBenchmark",
+        "benchmark.field.priv.FieldPrivateStaticVarHandleBenchmark",
+        "benchmark.field.priv.FieldPrivatePrimitiveVarHandleBenchmark",
+        "benchmark.field.priv.FieldPrivatePrimitiveStaticVarHandleBenchmark",
+
+        SetterBenchmark.class.getName(),
+        SetterStaticBenchmark.class.getName(),
+        SetterPrimitiveBenchmark.class.getName(),
+        SetterPrimitiveStaticBenchmark.class.getName(),
+        SetterPrivateBenchmark.class.getName(),
+        SetterPrivateStaticBenchmark.class.getName(),
+        SetterPrivatePrimitiveBenchmark.class.getName(),
+        SetterPrivatePrimitiveStaticBenchmark.class.getName(),
+
+        ConstructBenchmark.class.getName(),
+        ConstructPrimitiveBenchmark.class.getName(),
+        ConstructPrivateBenchmark.class.getName(),
+        ConstructPrivatePrimitiveBenchmark.class.getName(),
+
+        BeanCopyBenchmark.class.getName(),
+        ComposedHandleBenchmark.class.getName(),
+
+        InvocationBenchmark.class.getName(),
+        InvocationStaticBenchmark.class.getName(),
+        InvocationPrimitiveBenchmark.class.getName(),
+        InvocationPrimitiveStaticBenchmark.class.getName(),
+        InvocationPrivateBenchmark.class.getName(),
+        InvocationPrivateStaticBenchmark.class.getName(),
+        InvocationPrivatePrimitiveBenchmark.class.getName(),
+        InvocationPrivatePrimitiveStaticBenchmark.class.getName(),
+        InvocationSharedBenchmark.class.getName(),
+        MegamorphicBenchmark.class.getName(),
+        InvocationArityBenchmark.class.getName(),
+        InvocationColdBenchmark.class.getName(),
+
+        ProxyBenchmark.class.getName(),
+        ProxyPrimitiveBenchmark.class.getName(),
+
+        ScanBenchmark.class.getName(),
+        ScanColdBenchmark.class.getName(),
+
+        LookupBenchmark.class.getName(),
+        LookupMembersBenchmark.class.getName(),
+        // only compiled with the java9 profile, skipped when absent
+        "benchmark.LookupJava9Benchmark",
+        AccessorCacheBenchmark.class.getName(),
+        ClassCacheBenchmark.class.getName(),
+        ClassCacheUnloadBenchmark.class.getName(),
+        AccessorSpinBenchmark.class.getName(),
+        EventBusBenchmark.class.getName(),
+        SerializerBenchmark.class.getName(),
+        DeserializerBenchmark.class.getName(),
+        // only compiled with the java9 profile, skipped when absent
+        "benchmark.ingest.DeserializerVarHandleBenchmark",
+
+        // only compiled with the java17 profile, skipped when absent
+        "benchmark.records.RecordBenchmark",
+        "benchmark.records.RecordConstructBenchmark"
+    );
+
+    /**
+     * Suites that attach the GC profiler by default to report allocation per operation.
+     */
+    private static final Set<String> ALLOCATING = new HashSet<>(Arrays.asList(
+        ConstructBenchmark.class.getName(),
+        ConstructPrimitiveBenchmark.class.getName(),
+        ConstructPrivateBenchmark.class.getName(),
+        ConstructPrivatePrimitiveBenchmark.class.getName(),
+        SerializerBenchmark.class.getName(),
+        DeserializerBenchmark.class.getName(),
+        "benchmark.ingest.DeserializerVarHandleBenchmark"
+    ));
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        Arguments arguments;
+        try {
+            arguments = Arguments.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            Arguments.printUsage(System.err);
+            System.exit(2);
+            return;
+        }
+        if (arguments.help) {
+            Arguments.printUsage(System.out);
+            return;
+        }
+
+        Map<String, SortedSet<BenchmarkListEntry>> suites = select(arguments);
+        if (arguments.list) {
+            for (SortedSet<BenchmarkListEntry> benchmarks : suites.values()) {
+                for (BenchmarkListEntry benchmark : benchmarks) {
+                    System.out.println(benchmark.getUsername());
+                }
+            }
+            return;
+        }
+        if (!arguments.output.isDirectory() && !arguments.output.mkdirs()) {
+            throw new IOException("Cannot create output directory " + arguments.output);
+        }
+
+        Map<String, List<RunResult>> written = new LinkedHashMap<>();
+        if (arguments.jvms.isEmpty()) {
+            run(arguments, new ArrayList<>(suites.keySet()), null, written);
+        } else {
+            for (Jvm jvm : arguments.jvms) {
+                List<String> supported = new ArrayList<>();
+                for (String suite : suites.keySet()) {
+                    if (jvm.supports(suite)) {
+                        supported.add(suite);
+                    } else {
+                        System.out.println("Skipping " + suite + " on " + jvm + ", it requires a newer release than " + jvm.feature);
+                    }
+                }
+                run(arguments, supported, jvm, written);
+            }
+            for (String suite : written.keySet()) {
+                JdkMatrix.print(file(arguments, suite), System.out);
+            }
+        }
+    }
+
+    /**
+     * Runs the given suites under one JDK, or the current JVM's if {@code jvm} is {@code null}, and writes each suite's
+     * results as soon as they are complete.
+     */
+    private static void run(Arguments arguments, List<String> suites, Jvm jvm, Map<String, List<RunResult>> written) throws RunnerException, IOException {
+        if (arguments.combined) {
+            List<String> combined = new ArrayList<>();
+            for (String suite : suites) {
+                if (isPinned(suite) || arguments.mode != null && !isAverageTime(suite)) {
+                    write(arguments, suite, run(arguments, Collections.singletonList(suite), jvm), written);
+                } else {
+                    combined.add(suite);
+                }
+            }
+            Collection<RunResult> results = combined.isEmpty() ? Collections.<RunResult>emptyList() : run(arguments, combined, jvm);
+            for (String suite : combined) {
+                List<RunResult> suiteResults = new ArrayList<>();
+                for (RunResult result : results) {
+                    if (result.getParams().getBenchmark().startsWith(suite + ".")) {
+                        suiteResults.add(result);
+                    }
+                }
+                write(arguments, suite, suiteResults, written);
+            }
+        } else {
+            for (String suite : suites) {
+                write(arguments, suite, run(arguments, Collections.singletonList(suite), jvm), written);
+            }
+        }
+    }
+
+    private static Map<String, SortedSet<BenchmarkListEntry>> select(Arguments arguments) {
+        Map<String, SortedSet<BenchmarkListEntry>> suites = new LinkedHashMap<>();
+        for (String suite : SUITES) {
+            SortedSet<BenchmarkListEntry> benchmarks = BenchmarkList.defaultList().find(
+                OutputFormatFactory.createFormatInstance(System.out, VerboseMode.SILENT),
+                Collections.singletonList(include(suite, arguments.includes)),
+                arguments.excludes);
+            if (!benchmarks.isEmpty()) {
+                suites.put(suite, benchmarks);
+            }
+        }
+        return suites;
+    }
+
+    private static String include(String suite, List<String> includes) {
+        String prefix = "^" + Pattern.quote(suite) + "\\.";
+        if (includes.isEmpty()) {
+            return prefix;
+        }
+        StringBuilder any = new StringBuilder();
+        for (String include : includes) {
+            any.append(any.length() == 0 ? "" : "|").append("(?:").append(include).append(")");
+        }
+        return "^(?=.*(?:" + any + "))" + prefix.substring(1);
+    }
+
+    /**
+     * Suites annotated with {@link Fork} pin their own run configuration, e.g. single shot suites that need many forks,
+     * so the launcher defaults are not applied to them.
+     */
+    private static boolean isPinned(String suite) {
+        try {
+            return Class.forName(suite, false, Main.class.getClassLoader()).isAnnotationPresent(Fork.class);
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Only suites measuring the average time accept a mode given with {@code -bm}. The others, such as the single shot
+     * cold start and throughput suites, are modeled around their own mode and keep it.
+     */
+    private static boolean isAverageTime(String suite) {
+        if (isPinned(suite)) {
+            return false;
+        }
+        try {
+            BenchmarkMode mode = Class.forName(suite, false, Main.class.getClassLoader()).getAnnotation(BenchmarkMode.class);
+            return mode != null && Arrays.asList(mode.value()).equals(Collections.singletonList(Mode.AverageTime));
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Suites that are mainly about allocation always report it, even without {@code -gc}.
+     */
+    private static boolean isAllocating(String suite) {
+        return ALLOCATING.contains(suite);
+    }
+
+    /**
+     * Runs the given suites in one JMH run. Pinned suites are only ever run on their own.
+     */
+    private static Collection<RunResult> run(Arguments arguments, List<String> suites, Jvm jvm) throws RunnerException {
+        List<String> includes = new ArrayList<>();
+        boolean pinned = false, averageTime = true;
+        Set<String> profilers = new LinkedHashSet<>(arguments.profilers);
+        for (String suite : suites) {
+            includes.add(include(suite, arguments.includes));
+            pinned |= isPinned(suite);
+            averageTime &= isAverageTime(suite);
+            if (isAllocating(suite)) {
+                profilers.add("gc");
+            }
+        }
+        List<Integer> threads = arguments.threads.isEmpty() ? Collections.<Integer>singletonList(null) : arguments.threads;
+        List<RunResult> results = new ArrayList<>();
+        for (Integer count : threads) {
+            ChainedOptionsBuilder opt = new OptionsBuilder();
+            if (arguments.forks != null || !pinned) {
+                opt.forks(arguments.forks != null ? arguments.forks : 2);
+            }
+            if (arguments.measurementIterations != null || !pinned) {
+                opt.measurementIterations(arguments.measurementIterations != null ? arguments.measurementIterations : 10);
+            }
+            if (arguments.warmupIterations != null || !pinned) {
+                opt.warmupIterations(arguments.warmupIterations != null ? arguments.warmupIterations : 5);
+            }
+            if (arguments.measurementTime != null || !pinned) {
+                opt.measurementTime(arguments.measurementTime != null ? arguments.measurementTime : TimeValue.milliseconds(100));
+            }
+            if (arguments.warmupTime != null || !pinned) {
+                opt.warmupTime(arguments.warmupTime != null ? arguments.warmupTime : TimeValue.milliseconds(100));
+            }
+            if (arguments.mode != null && averageTime) {
+                opt.mode(arguments.mode);
+            }
+            for (String include : includes) {
+                opt.include(include);
+            }
+            for (String exclude : arguments.excludes) {
+                opt.exclude(exclude);
+            }
+            for (String profiler : profilers) {
+                int separator = profiler.indexOf(':');
+                if (separator < 0) {
+                    opt.addProfiler(profiler);
+                } else {
+                    opt.addProfiler(profiler.substring(0, separator), profiler.substring(separator + 1));
+                }
+            }
+            if (jvm != null) {
+                opt.jvm(jvm.executable);
+            }
+            if (!arguments.jvmArgs.isEmpty()) {
+                opt.jvmArgsAppend(arguments.jvmArgs.toArray(new String[0]));
+            }
+            if (count != null) {
+                opt.threads(count);
+            }
+            results.addAll(new Runner(opt.build()).run());
+        }
+        return results;
+    }
+
+    /**
+     * Writes a suite's results, merged with those of the JDKs it already ran under and tagged with the JDK if several
+     * were given.
+     */
+    private static void write(Arguments arguments, String suite, Collection<RunResult> results, Map<String, List<RunResult>> written) throws IOException {
+        List<RunResult> merged = written.computeIfAbsent(suite, key -> new ArrayList<>());
+        merged.addAll(results);
+        CsvReport.write(merged, file(arguments, suite), !arguments.jvms.isEmpty());
+    }
+
+    private static File file(Arguments arguments, String suite) {
+        return new File(arguments.output, suite.substring(suite.lastIndexOf('.') + 1) + ".csv");
     }
 }
@@ -0,0 +1,129 @@
+package benchmark.access;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Resolves members once and hands out the cached result afterwards. Method handles are returned with their type
+ * erased, reference types replaced by {@code Object}, so that every caller can use {@code invokeExact} against one
+ * fixed shape instead of paying for the adaptation of {@code invoke}. Accessors are generated by
+ * {@link AccessorGenerator}.
+ * <p>
+ * The per-class tables hang off a {@link ClassValue}, so they are owned by the class itself and are dropped together
+ * with it once its class loader is unloaded. Keys and cached values refer to the member's parameter types, which the
+ * owner's class loader resolves anyway, and for accessors to the requested interface: an interface from an unrelated
+ * class loader stays reachable for as long as the owner does.
+ */
+public final class AccessorCache {
+
+    private final MethodHandles.Lookup lookup;
+
+    private final ClassValue<ConcurrentMap<Key, Object>> members = new ClassValue<ConcurrentMap<Key, Object>>() {
+        @Override
+        protected ConcurrentMap<Key, Object> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    public AccessorCache(MethodHandles.Lookup lookup) {
+        this.lookup = lookup;
+    }
+
+    public MethodHandle method(Class<?> owner, String name, Class<?>... parameterTypes) throws ReflectiveOperationException {
+        Key key = new Key(Kind.METHOD, name, null, parameterTypes);
+        Object cached = members.get(owner).get(key);
+        if (cached == null) {
+            Method method = owner.getDeclaredMethod(name, parameterTypes);
+            method.setAccessible(true);
+            MethodHandle handle = lookup.unreflect(method);
+            cached = cache(owner, key, handle.asType(handle.type().erase()));
+        }
+        return (MethodHandle) cached;
+    }
+
+    public MethodHandle getter(Class<?> owner, String name) throws ReflectiveOperationException {
+        Key key = new Key(Kind.GETTER, name, null);
+        Object cached = members.get(owner).get(key);
+        if (cached == null) {
+            Field field = owner.getDeclaredField(name);
+            field.setAccessible(true);
+            MethodHandle handle = lookup.unreflectGetter(field);
+            cached = cache(owner, key, handle.asType(handle.type().erase()));
+        }
+        return (MethodHandle) cached;
+    }
+
+    public <T> T accessor(Class<T> type, Class<?> owner, String name, Class<?>... parameterTypes) throws ReflectiveOperationException {
+        Key key = new Key(Kind.ACCESSOR, name, type, parameterTypes);
+        Object cached = members.get(owner).get(key);
+        if (cached == null) {
+            Method method = owner.getDeclaredMethod(name, parameterTypes);
+            method.setAccessible(true);
+            cached = cache(owner, key, AccessorGenerator.method(lookup, type, method));
+        }
+        return type.cast(cached);
+    }
+
+    public void invalidate(Class<?> owner) {
+        members.remove(owner);
+    }
+
+    private Object cache(Class<?> owner, Key key, Object resolved) {
+        Object previous = members.get(owner).putIfAbsent(key, resolved);
+        return previous == null ? resolved : previous;
+    }
+
+    enum Kind {
+        METHOD,
+        GETTER,
+        ACCESSOR
+    }
+
+    static final class Key {
+
+        private final Kind kind;
+
+        private final String name;
+
+        private final Class<?> type;
+
+        private final Class<?>[] parameterTypes;
+
+        private final int hash;
+
+        Key(Kind kind, String name, Class<?> type, Class<?>... parameterTypes) {
+            this.kind = kind;
+            this.name = name;
+            this.type = type;
+            this.parameterTypes = parameterTypes;
+            this.hash = 31 * (31 * (31 * kind.hashCode() + name.hashCode()) + (type == null ? 0 : type.hashCode()))
+                + Arrays.hashCode(parameterTypes);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return hash == key.hash
+                && kind == key.kind
+                && type == key.type
+                && name.equals(key.name)
+                && Arrays.equals(parameterTypes, key.parameterTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package benchmark.access;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Spins one class per target member that implements a functional interface by calling the member directly.
+ * <p>
+ * On JDK 15+ the class is defined as a hidden nestmate of the member's declaring class, older JDKs fall back to
+ * {@code Unsafe.defineAnonymousClass} hosted by the declaring class. Either way the generated code gets private
+ * access to the member, so the caller's lookup is checked up front just like {@code LambdaMetafactory} would.
+ * <p>
+ * The interface is taken as {@code Class<? super T>} such that a raw class literal of a generic interface yields an
+ * accessor of the parameterized type that the caller assigns it to.
+ */
+public final class AccessorGenerator {
+
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private static final Object NESTMATE;
+
+    private static final Method PRIVATE_LOOKUP_IN, DEFINE_HIDDEN_CLASS, DEFINE_ANONYMOUS_CLASS;
+
+    private static final Object UNSAFE;
+
+    static {
+        Object nestmate = null, unsafe = null;
+        Method privateLookupIn = null, defineHiddenClass = null, defineAnonymousClass = null;
+        try {
+            privateLookupIn = MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
+            Class<?> classOption = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+            Object options = java.lang.reflect.Array.newInstance(classOption, 0);
+            defineHiddenClass = MethodHandles.Lookup.class.getMethod("defineHiddenClass", byte[].class, boolean.class, options.getClass());
+            nestmate = classOption.getField("NESTMATE").get(null);
+        } catch (ReflectiveOperationException e) {
+            privateLookupIn = null;
+            defineHiddenClass = null;
+            try {
+                Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+                theUnsafe.setAccessible(true);
+                unsafe = theUnsafe.get(null);
+                defineAnonymousClass = unsafeClass.getMethod("defineAnonymousClass", Class.class, byte[].class, Object[].class);
+            } catch (ReflectiveOperationException ex) {
+                throw new ExceptionInInitializerError(ex);
+            }
+        }
+        NESTMATE = nestmate;
+        UNSAFE = unsafe;
+        PRIVATE_LOOKUP_IN = privateLookupIn;
+        DEFINE_HIDDEN_CLASS = defineHiddenClass;
+        DEFINE_ANONYMOUS_CLASS = defineAnonymousClass;
+    }
+
+    private AccessorGenerator() {
+        /* static only */
+    }
+
+    public static <T> T method(MethodHandles.Lookup lookup, Class<? super T> type, Method target) throws ReflectiveOperationException {
+        lookup.unreflect(target);
+        boolean isStatic = Modifier.isStatic(target.getModifiers());
+        return generate(lookup, type, new Target(
+            target.getDeclaringClass(), isStatic ? INVOKESTATIC : invokeVirtual(target), target.getName(),
+            Type.getMethodDescriptor(target), !isStatic, target.getParameterTypes(), target.getReturnType()));
+    }
+
+    /**
+     * Implements the interface by delegating to the given instance method of a fixed receiver, which is not part of the
+     * functional interface's signature.
+     */
+    public static <T> T delegate(MethodHandles.Lookup lookup, Class<? super T> type, Method target, Object receiver) throws ReflectiveOperationException {
+        lookup.unreflect(target);
+        if (Modifier.isStatic(target.getModifiers()) || !target.getDeclaringClass().isInstance(receiver)) {
+            throw new IllegalArgumentException(receiver + " is not a receiver of " + target);
+        }
+        return generate(lookup, type, new Target(
+            target.getDeclaringClass(), invokeVirtual(target), target.getName(),
+            Type.getMethodDescriptor(target), true, target.getParameterTypes(), target.getReturnType()), receiver);
+    }
+
+    public static <T> T constructor(MethodHandles.Lookup lookup, Class<? super T> type, Constructor<?> target) throws ReflectiveOperationException {
+        lookup.unreflectConstructor(target);
+        return generate(lookup, type, new Target(
+            target.getDeclaringClass(), NEW, "<init>",
+            Type.getConstructorDescriptor(target), false, target.getParameterTypes(), target.getDeclaringClass()));
+    }
+
+    public static <T> T getter(MethodHandles.Lookup lookup, Class<? super T> type, Field target) throws ReflectiveOperationException {
+        lookup.unreflectGetter(target);
+        boolean isStatic = Modifier.isStatic(target.getModifiers());
+        return generate(lookup, type, new Target(
+            target.getDeclaringClass(), isStatic ? GETSTATIC : GETFIELD, target.getName(),
+            Type.getDescriptor(target.getType()), !isStatic, new Class<?>[0], target.getType()));
+    }
+
+    public static <T> T setter(MethodHandles.Lookup lookup, Class<? super T> type, Field target) throws ReflectiveOperationException {
+        if (Modifier.isFinal(target.getModifiers())) {
+            throw new IllegalArgumentException("Cannot generate a setter for final field " + target);
+        }
+        lookup.unreflectSetter(target);
+        boolean isStatic = Modifier.isStatic(target.getModifiers());
+        return generate(lookup, type, new Target(
+            target.getDeclaringClass(), isStatic ? PUTSTATIC : PUTFIELD, target.getName(),
+            Type.getDescriptor(target.getType()), !isStatic, new Class<?>[] {target.getType()}, void.class));
+    }
+
+    /**
+     * Methods declared by an interface are dispatched with {@code invokeinterface}, static ones with
+     * {@code invokestatic} on an interface method reference.
+     */
+    private static int invokeVirtual(Method target) {
+        return target.getDeclaringClass().isInterface() ? INVOKEINTERFACE : INVOKEVIRTUAL;
+    }
+
+    static <T> T generate(MethodHandles.Lookup lookup, Class<? super T> type, Target target) throws ReflectiveOperationException {
+        return generate(lookup, type, target, null);
+    }
+
+    private static <T> T generate(MethodHandles.Lookup lookup, Class<? super T> type, Target target, Object receiver) throws ReflectiveOperationException {
+        Method sam = findAbstractMethod(type);
+        String name = Type.getInternalName(target.owner) + "$$Accessor$" + COUNTER.incrementAndGet();
+
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        writer.visit(V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, name, null,
+                     "java/lang/Object", new String[] {Type.getInternalName(type)});
+
+        String owner = Type.getInternalName(target.owner), ownerDescriptor = Type.getDescriptor(target.owner);
+        if (receiver != null) {
+            writer.visitField(ACC_PRIVATE | ACC_FINAL, "receiver", ownerDescriptor, null, null).visitEnd();
+        }
+
+        MethodVisitor init = writer.visitMethod(ACC_PUBLIC, "<init>", receiver == null ? "()V" : "(" + ownerDescriptor + ")V", null, null);
+        init.visitCode();
+        init.visitVarInsn(ALOAD, 0);
+        init.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        if (receiver != null) {
+            init.visitVarInsn(ALOAD, 0);
+            init.visitVarInsn(ALOAD, 1);
+            init.visitFieldInsn(PUTFIELD, name, "receiver", ownerDescriptor);
+        }
+        init.visitInsn(RETURN);
+        init.visitMaxs(0, 0);
+        init.visitEnd();
+
+        Class<?>[] samParameters = sam.getParameterTypes();
+        int offset = target.receiver && receiver == null ? 1 : 0;
+        if (samParameters.length != target.parameters.length + offset) {
+            throw new IllegalArgumentException("Arity mismatch between " + sam + " and " + target.name);
+        }
+
+        MethodVisitor method = writer.visitMethod(ACC_PUBLIC, sam.getName(), Type.getMethodDescriptor(sam), null, null);
+        method.visitCode();
+        if (target.opcode == NEW) {
+            method.visitTypeInsn(NEW, owner);
+            method.visitInsn(DUP);
+        } else if (receiver != null) {
+            method.visitVarInsn(ALOAD, 0);
+            method.visitFieldInsn(GETFIELD, name, "receiver", ownerDescriptor);
+        }
+        int slot = 1;
+        for (int i = 0; i < samParameters.length; i++) {
+            Type parameter = Type.getType(samParameters[i]);
+            method.visitVarInsn(parameter.getOpcode(ILOAD), slot);
+            slot += parameter.getSize();
+            adapt(method, samParameters[i], i < offset ? target.owner : target.parameters[i - offset]);
+        }
+        if (target.opcode == GETFIELD || target.opcode == GETSTATIC || target.opcode == PUTFIELD || target.opcode == PUTSTATIC) {
+            method.visitFieldInsn(target.opcode, owner, target.name, target.descriptor);
+        } else if (target.opcode == NEW) {
+            method.visitMethodInsn(INVOKESPECIAL, owner, target.name, target.descriptor, false);
+        } else {
+            method.visitMethodInsn(target.opcode, owner, target.name, target.descriptor, target.owner.isInterface());
+        }
+        adapt(method, target.returnType, sam.getReturnType());
+        method.visitInsn(Type.getType(sam.getReturnType()).getOpcode(IRETURN));
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+
+        writer.visitEnd();
+        Class<?> accessor = define(lookup, target.owner, writer.toByteArray());
+        return instance(type, receiver == null
+                              ? accessor.getConstructor().newInstance()
+                              : accessor.getConstructor(target.owner).newInstance(receiver));
+    }
+
+    /**
+     * The generated class implements only the erasure of the interface, its type arguments are the caller's promise.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T instance(Class<? super T> type, Object instance) {
+        return (T) type.cast(instance);
+    }
+
+    static Class<?> define(MethodHandles.Lookup lookup, Class<?> host, byte[] bytes) throws ReflectiveOperationException {
+        if (DEFINE_HIDDEN_CLASS != null) {
+            Object options = java.lang.reflect.Array.newInstance(NESTMATE.getClass(), 1);
+            java.lang.reflect.Array.set(options, 0, NESTMATE);
+            Object hostLookup = PRIVATE_LOOKUP_IN.invoke(null, host, lookup);
+            return ((MethodHandles.Lookup) DEFINE_HIDDEN_CLASS.invoke(hostLookup, bytes, true, options)).lookupClass();
+        }
+        return (Class<?>) DEFINE_ANONYMOUS_CLASS.invoke(UNSAFE, host, bytes, null);
+    }
+
+    private static Method findAbstractMethod(Class<?> type) {
+        if (!type.isInterface()) {
+            throw new IllegalArgumentException(type + " is not an interface");
+        }
+        Method found = null;
+        for (Method method : type.getMethods()) {
+            if (Modifier.isAbstract(method.getModifiers())) {
+                if (found != null) {
+                    throw new IllegalArgumentException(type + " is not a functional interface");
+                }
+                found = method;
+            }
+        }
+        if (found == null) {
+            throw new IllegalArgumentException(type + " has no abstract method");
+        }
+        return found;
+    }
+
+    private static void adapt(MethodVisitor method, Class<?> from, Class<?> to) {
+        if (from == to) {
+            return;
+        }
+        if (to == void.class) {
+            method.visitInsn(Type.getType(from).getSize() == 2 ? POP2 : POP);
+        } else if (from == void.class) {
+            if (to.isPrimitive()) {
+                throw new IllegalArgumentException("Cannot adapt void to " + to);
+            }
+            method.visitInsn(ACONST_NULL);
+        } else if (from.isPrimitive() && to.isPrimitive()) {
+            throw new IllegalArgumentException("Cannot adapt " + from + " to " + to);
+        } else if (to.isPrimitive()) {
+            Type wrapper = Type.getType(wrapper(to));
+            method.visitTypeInsn(CHECKCAST, wrapper.getInternalName());
+            method.visitMethodInsn(INVOKEVIRTUAL, wrapper.getInternalName(), to.getName() + "Value",
+                                   Type.getMethodDescriptor(Type.getType(to)), false);
+        } else if (from.isPrimitive()) {
+            Type wrapper = Type.getType(wrapper(from));
+            method.visitMethodInsn(INVOKESTATIC, wrapper.getInternalName(), "valueOf",
+                                   Type.getMethodDescriptor(wrapper, Type.getType(from)), false);
+            if (!to.isAssignableFrom(wrapper(from))) {
+                method.visitTypeInsn(CHECKCAST, Type.getInternalName(to));
+            }
+        } else if (!to.isAssignableFrom(from)) {
+            method.visitTypeInsn(CHECKCAST, Type.getInternalName(to));
+        }
+    }
+
+    static Class<?> wrapper(Class<?> primitive) {
+        if (primitive == int.class) return Integer.class;
+        if (primitive == long.class) return Long.class;
+        if (primitive == boolean.class) return Boolean.class;
+        if (primitive == byte.class) return Byte.class;
+        if (primitive == short.class) return Short.class;
+        if (primitive == char.class) return Character.class;
+        if (primitive == float.class) return Float.class;
+        if (primitive == double.class) return Double.class;
+        throw new IllegalArgumentException(primitive + " is not primitive");
+    }
+
+    static final class Target {
+
+        final Class<?> owner;
+
+        final int opcode;
+
+        final String name, descriptor;
+
+        final boolean receiver;
+
+        final Class<?>[] parameters;
+
+        final Class<?> returnType;
+
+        Target(Class<?> owner, int opcode, String name, String descriptor, boolean receiver, Class<?>[] parameters, Class<?> returnType) {
+            this.owner = owner;
+            this.opcode = opcode;
+            this.name = name;
+            this.descriptor = descriptor;
+            this.receiver = receiver;
+            this.parameters = parameters;
+            this.returnType = returnType;
+        }
+    }
+}
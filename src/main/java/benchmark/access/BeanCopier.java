@@ -0,0 +1,10 @@
+package benchmark.access;
+
+/**
+ * Copies the state of one instance onto another instance of the same class, see {@link BeanCopiers} for the backends.
+ */
+@FunctionalInterface
+public interface BeanCopier {
+
+    void copy(Object source, Object target);
+}
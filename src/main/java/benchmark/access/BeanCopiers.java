@@ -0,0 +1,188 @@
+package benchmark.access;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Creates {@link BeanCopier}s that copy every instance field declared by a class, using the same strategies as the
+ * field benchmarks. All fields are resolved up front, copying only goes through the chosen backend.
+ * <p>
+ * Inherited fields are not copied and final fields are rejected since none of the backends can write them.
+ */
+public final class BeanCopiers {
+
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private static final MethodHandle NOTHING;
+
+    static {
+        try {
+            NOTHING = MethodHandles.lookup().findStatic(BeanCopiers.class, "nothing",
+                                                        MethodType.methodType(void.class, Object.class, Object.class));
+        } catch (Exception e) {
+            throw new AssertionError();
+        }
+    }
+
+    private BeanCopiers() {
+        /* static only */
+    }
+
+    /**
+     * Copies every field with {@link Field#get(Object)} and {@link Field#set(Object, Object)}, boxing primitives.
+     */
+    public static BeanCopier reflective(Class<?> type) {
+        Field[] fields = fields(type);
+        return (source, target) -> {
+            try {
+                for (Field field : fields) {
+                    field.set(target, field.get(source));
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    /**
+     * Copies every field through a pair of getter and setter handles that are erased to {@code Object}, boxing
+     * primitives just like reflection does.
+     */
+    public static BeanCopier handles(MethodHandles.Lookup lookup, Class<?> type) throws ReflectiveOperationException {
+        Field[] fields = fields(type);
+        MethodHandle[] getters = new MethodHandle[fields.length], setters = new MethodHandle[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            getters[i] = lookup.unreflectGetter(fields[i]).asType(MethodType.methodType(Object.class, Object.class));
+            setters[i] = lookup.unreflectSetter(fields[i]).asType(MethodType.methodType(void.class, Object.class, Object.class));
+        }
+        return (source, target) -> {
+            try {
+                for (int i = 0; i < getters.length; i++) {
+                    setters[i].invokeExact(target, getters[i].invokeExact(source));
+                }
+            } catch (Throwable throwable) {
+                throw rethrow(throwable);
+            }
+        };
+    }
+
+    /**
+     * Combines all fields into a single handle of type {@code (Object, Object)void}. Every field becomes its setter
+     * with the getter filtered into the value argument, which keeps primitives unboxed, and the per field handles are
+     * folded into a balanced tree to keep the handle shallow for classes with many fields.
+     */
+    public static BeanCopier handleTree(MethodHandles.Lookup lookup, Class<?> type) throws ReflectiveOperationException {
+        Field[] fields = fields(type);
+        MethodHandle[] copies = new MethodHandle[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            MethodHandle getter = lookup.unreflectGetter(fields[i]), setter = lookup.unreflectSetter(fields[i]);
+            copies[i] = MethodHandles.filterArguments(setter, 1, getter)
+                .asType(MethodType.methodType(void.class, Object.class, Object.class));
+        }
+        MethodHandle tree = MethodHandles.permuteArguments(fold(copies, 0, copies.length),
+                                                           MethodType.methodType(void.class, Object.class, Object.class), 1, 0);
+        return (source, target) -> {
+            try {
+                tree.invokeExact(source, target);
+            } catch (Throwable throwable) {
+                throw rethrow(throwable);
+            }
+        };
+    }
+
+    /**
+     * Spins a class that copies every field with {@code getfield} and {@code putfield}, defined next to the copied
+     * class such that private fields can be read and written directly.
+     */
+    public static BeanCopier generated(MethodHandles.Lookup lookup, Class<?> type) throws ReflectiveOperationException {
+        Field[] fields = fields(type);
+        for (Field field : fields) {
+            lookup.unreflectGetter(field);
+            lookup.unreflectSetter(field);
+        }
+        String owner = Type.getInternalName(type), name = owner + "$$Copier$" + COUNTER.incrementAndGet();
+
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        writer.visit(V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, name, null,
+                     "java/lang/Object", new String[] {Type.getInternalName(BeanCopier.class)});
+
+        MethodVisitor init = writer.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+        init.visitCode();
+        init.visitVarInsn(ALOAD, 0);
+        init.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        init.visitInsn(RETURN);
+        init.visitMaxs(0, 0);
+        init.visitEnd();
+
+        MethodVisitor method = writer.visitMethod(ACC_PUBLIC, "copy", "(Ljava/lang/Object;Ljava/lang/Object;)V", null, null);
+        method.visitCode();
+        method.visitVarInsn(ALOAD, 1);
+        method.visitTypeInsn(CHECKCAST, owner);
+        method.visitVarInsn(ASTORE, 3);
+        method.visitVarInsn(ALOAD, 2);
+        method.visitTypeInsn(CHECKCAST, owner);
+        method.visitVarInsn(ASTORE, 4);
+        for (Field field : fields) {
+            String descriptor = Type.getDescriptor(field.getType());
+            method.visitVarInsn(ALOAD, 4);
+            method.visitVarInsn(ALOAD, 3);
+            method.visitFieldInsn(GETFIELD, owner, field.getName(), descriptor);
+            method.visitFieldInsn(PUTFIELD, owner, field.getName(), descriptor);
+        }
+        method.visitInsn(RETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+
+        writer.visitEnd();
+        return (BeanCopier) AccessorGenerator.define(lookup, type, writer.toByteArray()).getConstructor().newInstance();
+    }
+
+    private static Field[] fields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            } else if (Modifier.isFinal(field.getModifiers())) {
+                throw new IllegalArgumentException("Cannot copy final field " + field);
+            }
+            field.setAccessible(true);
+            fields.add(field);
+        }
+        return fields.toArray(new Field[0]);
+    }
+
+    private static MethodHandle fold(MethodHandle[] copies, int from, int to) {
+        if (from == to) {
+            return NOTHING;
+        } else if (to - from == 1) {
+            return copies[from];
+        }
+        int middle = (from + to) >>> 1;
+        return MethodHandles.foldArguments(fold(copies, middle, to), fold(copies, from, middle));
+    }
+
+    private static RuntimeException rethrow(Throwable throwable) {
+        if (throwable instanceof RuntimeException) {
+            return (RuntimeException) throwable;
+        } else if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+        return new IllegalStateException(throwable);
+    }
+
+    private static void nothing(Object target, Object source) {
+        /* empty */
+    }
+}
@@ -0,0 +1,10 @@
+package benchmark.access;
+
+/**
+ * Associates a lazily computed value with a class, see {@link ClassCaches} for the implementations.
+ */
+@FunctionalInterface
+public interface ClassCache<V> {
+
+    V get(Class<?> type);
+}
@@ -0,0 +1,177 @@
+package benchmark.access;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Creates {@link ClassCache}s that compute a value once per class, using the data structures a framework would keep
+ * its per-class metadata in. Values are computed at most once per class unless noted otherwise and must not
+ * reference their class if the class should remain unloadable.
+ */
+public final class ClassCaches {
+
+    private ClassCaches() {
+        /* static only */
+    }
+
+    /**
+     * Stores values in the class itself such that they are dropped together with it.
+     */
+    public static <V> ClassCache<V> classValue(Function<Class<?>, ? extends V> compute) {
+        ClassValue<V> values = new ClassValue<V>() {
+            @Override
+            protected V computeValue(Class<?> type) {
+                return compute.apply(type);
+            }
+        };
+        return values::get;
+    }
+
+    /**
+     * Holds strong references to the classes, such that they are never unloaded while the cache is reachable.
+     */
+    public static <V> ClassCache<V> concurrentHashMap(Function<Class<?>, ? extends V> compute) {
+        ConcurrentMap<Class<?>, V> values = new ConcurrentHashMap<>();
+        return type -> {
+            V value = values.get(type);
+            if (value == null) {
+                value = values.computeIfAbsent(type, compute);
+            }
+            return value;
+        };
+    }
+
+    /**
+     * Holds weak references in a number of {@link WeakHashMap}s, each guarded by its own lock. Every read takes a lock,
+     * stale entries are expunged on access.
+     */
+    public static <V> ClassCache<V> stripedWeakHashMap(Function<Class<?>, ? extends V> compute, int stripes) {
+        if (Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("Stripes must be a power of two: " + stripes);
+        }
+        Object[] maps = new Object[stripes];
+        for (int i = 0; i < stripes; i++) {
+            maps[i] = new WeakHashMap<Class<?>, V>();
+        }
+        return type -> {
+            @SuppressWarnings("unchecked")
+            Map<Class<?>, V> values = (Map<Class<?>, V>) maps[spread(System.identityHashCode(type)) & (stripes - 1)];
+            synchronized (values) {
+                V value = values.get(type);
+                if (value == null) {
+                    value = compute.apply(type);
+                    values.put(type, value);
+                }
+                return value;
+            }
+        };
+    }
+
+    /**
+     * Holds weak references in an open-addressing table probed by identity hash code. Reads are lock-free, writes
+     * are serialized and stale entries are only expunged when the table is resized.
+     */
+    public static <V> ClassCache<V> identityTable(Function<Class<?>, ? extends V> compute) {
+        return new IdentityTable<>(compute);
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class IdentityTable<V> implements ClassCache<V> {
+
+        private final Function<Class<?>, ? extends V> compute;
+
+        private volatile AtomicReferenceArray<Entry<V>> table = new AtomicReferenceArray<>(16);
+
+        /**
+         * The number of entries including stale ones, guarded by this instance.
+         */
+        private int size;
+
+        IdentityTable(Function<Class<?>, ? extends V> compute) {
+            this.compute = compute;
+        }
+
+        @Override
+        public V get(Class<?> type) {
+            int hash = spread(System.identityHashCode(type));
+            Entry<V> entry = find(table, type, hash);
+            return entry == null ? insert(type, hash) : entry.value;
+        }
+
+        private synchronized V insert(Class<?> type, int hash) {
+            AtomicReferenceArray<Entry<V>> table = this.table;
+            Entry<V> entry = find(table, type, hash);
+            if (entry != null) {
+                return entry.value;
+            }
+            V value = compute.apply(type);
+            if (2 * (size + 1) > table.length()) {
+                table = resize(table);
+                this.table = table;
+            }
+            place(table, new Entry<>(type, hash, value));
+            size++;
+            return value;
+        }
+
+        private AtomicReferenceArray<Entry<V>> resize(AtomicReferenceArray<Entry<V>> table) {
+            int live = 0;
+            for (int i = 0; i < table.length(); i++) {
+                Entry<V> entry = table.get(i);
+                if (entry != null && entry.get() != null) {
+                    live++;
+                }
+            }
+            AtomicReferenceArray<Entry<V>> resized = new AtomicReferenceArray<>(Math.max(16, Integer.highestOneBit(4 * (live + 1) - 1) << 1));
+            for (int i = 0; i < table.length(); i++) {
+                Entry<V> entry = table.get(i);
+                if (entry != null && entry.get() != null) {
+                    place(resized, entry);
+                }
+            }
+            size = live;
+            return resized;
+        }
+
+        private static <V> Entry<V> find(AtomicReferenceArray<Entry<V>> table, Class<?> type, int hash) {
+            int mask = table.length() - 1;
+            for (int index = hash & mask; ; index = (index + 1) & mask) {
+                Entry<V> entry = table.get(index);
+                if (entry == null || entry.get() == type) {
+                    return entry;
+                }
+            }
+        }
+
+        private static <V> void place(AtomicReferenceArray<Entry<V>> table, Entry<V> entry) {
+            int mask = table.length() - 1;
+            for (int index = entry.hash & mask; ; index = (index + 1) & mask) {
+                if (table.get(index) == null) {
+                    table.set(index, entry);
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class Entry<V> extends WeakReference<Class<?>> {
+
+        private final int hash;
+
+        private final V value;
+
+        Entry(Class<?> type, int hash, V value) {
+            super(type);
+            this.hash = hash;
+            this.value = value;
+        }
+    }
+}
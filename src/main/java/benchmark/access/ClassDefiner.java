@@ -0,0 +1,71 @@
+package benchmark.access;
+
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.MethodHandles;
+import java.util.function.Supplier;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Defines classes emitted by the benchmark fixtures in a class loader of their own, such that no reflection data of
+ * previously defined classes is reused and the classes can be unloaded once the definer is unreachable.
+ * <p>
+ * Classes that {@link #emitLookup(ClassVisitor) emit a lookup()} hand out full-privilege access through
+ * {@link #lookup(Class)} without relying on {@code privateLookupIn}, which is not available on every JDK this project
+ * targets.
+ */
+public final class ClassDefiner extends ClassLoader {
+
+    private static final String LOOKUP_DESCRIPTOR = Type.getMethodDescriptor(Type.getType(MethodHandles.Lookup.class));
+
+    public ClassDefiner(ClassLoader parent) {
+        super(parent);
+    }
+
+    /**
+     * Defines the class emitted by the supplier, or returns the class of that name if this definer already defined it.
+     */
+    public synchronized Class<?> define(String name, Supplier<byte[]> emitter) {
+        Class<?> type = findLoadedClass(name);
+        if (type == null) {
+            byte[] bytes = emitter.get();
+            type = defineClass(name, bytes, 0, bytes.length);
+        }
+        return type;
+    }
+
+    /**
+     * Emits a public no-argument constructor that calls the one of the given super class.
+     */
+    public static void emitConstructor(ClassVisitor writer, String superName) {
+        MethodVisitor init = writer.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+        init.visitCode();
+        init.visitVarInsn(ALOAD, 0);
+        init.visitMethodInsn(INVOKESPECIAL, superName, "<init>", "()V", false);
+        init.visitInsn(RETURN);
+        init.visitMaxs(0, 0);
+        init.visitEnd();
+    }
+
+    /**
+     * Emits {@code public static Lookup lookup() { return MethodHandles.lookup(); }}.
+     */
+    public static void emitLookup(ClassVisitor writer) {
+        MethodVisitor lookup = writer.visitMethod(ACC_PUBLIC | ACC_STATIC, "lookup", LOOKUP_DESCRIPTOR, null, null);
+        lookup.visitCode();
+        lookup.visitMethodInsn(INVOKESTATIC, Type.getInternalName(MethodHandles.class), "lookup", LOOKUP_DESCRIPTOR, false);
+        lookup.visitInsn(ARETURN);
+        lookup.visitMaxs(0, 0);
+        lookup.visitEnd();
+    }
+
+    /**
+     * Returns the full-privilege lookup of a class that was emitted with {@link #emitLookup(ClassVisitor)}.
+     */
+    public static MethodHandles.Lookup lookup(Class<?> type) throws ReflectiveOperationException {
+        return (MethodHandles.Lookup) type.getMethod("lookup").invoke(null);
+    }
+}
@@ -0,0 +1,12 @@
+package benchmark.access;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reads an object graph from a buffer at its current position, see {@link Deserializers} for the backends.
+ */
+@FunctionalInterface
+public interface Deserializer {
+
+    Object read(ByteBuffer buffer);
+}
@@ -0,0 +1,397 @@
+package benchmark.access;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Creates {@link Deserializer}s for the format of {@link Serializers}, which instantiate every object with its
+ * no-argument constructor and populate it with one of the field write strategies of the setter benchmarks.
+ * <p>
+ * All backends share the same reader and only differ in how objects are constructed and fields are written. Every
+ * class is resolved once into a plan of one setter per field, typed by the field's {@link Property.Kind}, such that
+ * reflection is only used to build the plan and, for the reflective backend, to write the fields. Final fields are
+ * rejected since none of the backends can write them.
+ */
+public final class Deserializers {
+
+    private Deserializers() {
+        /* static only */
+    }
+
+    /**
+     * Constructs objects with {@link Constructor#newInstance(Object...)} and writes fields with the typed setters of
+     * {@link Field}, such as {@link Field#setInt(Object, int)}.
+     */
+    public static Deserializer reflective(Class<?> type) {
+        return of(type, new Backend() {
+            @Override
+            Supplier<?> constructor(Constructor<?> constructor) {
+                return () -> {
+                    try {
+                        return constructor.newInstance();
+                    } catch (InvocationTargetException e) {
+                        throw rethrow(e.getCause());
+                    } catch (ReflectiveOperationException e) {
+                        throw new IllegalStateException(e);
+                    }
+                };
+            }
+
+            @Override
+            BooleanSetter booleanSetter(Field field) {
+                return (target, value) -> {
+                    try {
+                        field.setBoolean(target, value);
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException(e);
+                    }
+                };
+            }
+
+            @Override
+            IntSetter intSetter(Field field) {
+                return (target, value) -> {
+                    try {
+                        field.setInt(target, value);
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException(e);
+                    }
+                };
+            }
+
+            @Override
+            LongSetter longSetter(Field field) {
+                return (target, value) -> {
+                    try {
+                        field.setLong(target, value);
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException(e);
+                    }
+                };
+            }
+
+            @Override
+            DoubleSetter doubleSetter(Field field) {
+                return (target, value) -> {
+                    try {
+                        field.setDouble(target, value);
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException(e);
+                    }
+                };
+            }
+
+            @Override
+            ObjectSetter objectSetter(Field field) {
+                return (target, value) -> {
+                    try {
+                        field.set(target, value);
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException(e);
+                    }
+                };
+            }
+        });
+    }
+
+    /**
+     * Constructs objects and writes fields with handles that are invoked exactly, erased to {@code Object} apart from
+     * primitive values.
+     */
+    public static Deserializer handles(MethodHandles.Lookup lookup, Class<?> type) {
+        return of(type, new Backend() {
+            @Override
+            Supplier<?> constructor(Constructor<?> constructor) throws ReflectiveOperationException {
+                MethodHandle handle = lookup.unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+                return () -> {
+                    try {
+                        return (Object) handle.invokeExact();
+                    } catch (Throwable throwable) {
+                        throw rethrow(throwable);
+                    }
+                };
+            }
+
+            @Override
+            BooleanSetter booleanSetter(Field field) throws ReflectiveOperationException {
+                MethodHandle handle = setter(field, boolean.class);
+                return (target, value) -> {
+                    try {
+                        handle.invokeExact(target, value);
+                    } catch (Throwable throwable) {
+                        throw rethrow(throwable);
+                    }
+                };
+            }
+
+            @Override
+            IntSetter intSetter(Field field) throws ReflectiveOperationException {
+                MethodHandle handle = setter(field, int.class);
+                return (target, value) -> {
+                    try {
+                        handle.invokeExact(target, value);
+                    } catch (Throwable throwable) {
+                        throw rethrow(throwable);
+                    }
+                };
+            }
+
+            @Override
+            LongSetter longSetter(Field field) throws ReflectiveOperationException {
+                MethodHandle handle = setter(field, long.class);
+                return (target, value) -> {
+                    try {
+                        handle.invokeExact(target, value);
+                    } catch (Throwable throwable) {
+                        throw rethrow(throwable);
+                    }
+                };
+            }
+
+            @Override
+            DoubleSetter doubleSetter(Field field) throws ReflectiveOperationException {
+                MethodHandle handle = setter(field, double.class);
+                return (target, value) -> {
+                    try {
+                        handle.invokeExact(target, value);
+                    } catch (Throwable throwable) {
+                        throw rethrow(throwable);
+                    }
+                };
+            }
+
+            @Override
+            ObjectSetter objectSetter(Field field) throws ReflectiveOperationException {
+                MethodHandle handle = setter(field, Object.class);
+                return (target, value) -> {
+                    try {
+                        handle.invokeExact(target, value);
+                    } catch (Throwable throwable) {
+                        throw rethrow(throwable);
+                    }
+                };
+            }
+
+            private MethodHandle setter(Field field, Class<?> value) throws ReflectiveOperationException {
+                return lookup.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, value));
+            }
+        });
+    }
+
+    /**
+     * Constructs objects and writes fields with classes spun by the {@link AccessorGenerator}, one per constructor
+     * and field, which implement the setter interfaces directly.
+     */
+    public static Deserializer generated(MethodHandles.Lookup lookup, Class<?> type) {
+        return of(type, new Backend() {
+            @Override
+            Supplier<?> constructor(Constructor<?> constructor) throws ReflectiveOperationException {
+                return AccessorGenerator.constructor(lookup, Supplier.class, constructor);
+            }
+
+            @Override
+            BooleanSetter booleanSetter(Field field) throws ReflectiveOperationException {
+                return AccessorGenerator.setter(lookup, BooleanSetter.class, field);
+            }
+
+            @Override
+            IntSetter intSetter(Field field) throws ReflectiveOperationException {
+                return AccessorGenerator.setter(lookup, IntSetter.class, field);
+            }
+
+            @Override
+            LongSetter longSetter(Field field) throws ReflectiveOperationException {
+                return AccessorGenerator.setter(lookup, LongSetter.class, field);
+            }
+
+            @Override
+            DoubleSetter doubleSetter(Field field) throws ReflectiveOperationException {
+                return AccessorGenerator.setter(lookup, DoubleSetter.class, field);
+            }
+
+            @Override
+            ObjectSetter objectSetter(Field field) throws ReflectiveOperationException {
+                return AccessorGenerator.setter(lookup, ObjectSetter.class, field);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    public interface BooleanSetter {
+        void set(Object target, boolean value);
+    }
+
+    @FunctionalInterface
+    public interface IntSetter {
+        void set(Object target, int value);
+    }
+
+    @FunctionalInterface
+    public interface LongSetter {
+        void set(Object target, long value);
+    }
+
+    @FunctionalInterface
+    public interface DoubleSetter {
+        void set(Object target, double value);
+    }
+
+    @FunctionalInterface
+    public interface ObjectSetter {
+        void set(Object target, Object value);
+    }
+
+    static Deserializer of(Class<?> type, Backend backend) {
+        ClassValue<Plan> plans = new ClassValue<Plan>() {
+            @Override
+            protected Plan computeValue(Class<?> type) {
+                try {
+                    return new Plan(type, backend, this);
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalArgumentException(e);
+                }
+            }
+        };
+        plans.get(type);
+        return buffer -> read(plans, type, buffer);
+    }
+
+    private static Object read(ClassValue<Plan> plans, Class<?> type, ByteBuffer buffer) {
+        if (buffer.get() == 0) {
+            return null;
+        }
+        Plan plan = plans.get(type);
+        Object value = plan.constructor.get();
+        for (Step step : plan.steps) {
+            step.read(value, buffer);
+        }
+        return value;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = buffer.getChar();
+        }
+        return new String(chars);
+    }
+
+    private static List<Object> readList(ClassValue<Plan> plans, Property property, ByteBuffer buffer) {
+        int size = buffer.getInt();
+        if (size < 0) {
+            return null;
+        }
+        List<Object> list = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            list.add(property.elementKind == Property.Kind.STRING ? readString(buffer) : read(plans, property.type, buffer));
+        }
+        return list;
+    }
+
+    static RuntimeException rethrow(Throwable throwable) {
+        if (throwable instanceof RuntimeException) {
+            return (RuntimeException) throwable;
+        } else if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+        return new IllegalStateException(throwable);
+    }
+
+    /**
+     * Resolves how a class is constructed and how a field of each kind is written.
+     */
+    abstract static class Backend {
+
+        abstract Supplier<?> constructor(Constructor<?> constructor) throws ReflectiveOperationException;
+
+        abstract BooleanSetter booleanSetter(Field field) throws ReflectiveOperationException;
+
+        abstract IntSetter intSetter(Field field) throws ReflectiveOperationException;
+
+        abstract LongSetter longSetter(Field field) throws ReflectiveOperationException;
+
+        abstract DoubleSetter doubleSetter(Field field) throws ReflectiveOperationException;
+
+        abstract ObjectSetter objectSetter(Field field) throws ReflectiveOperationException;
+    }
+
+    /**
+     * Reads one property from the buffer and writes it to the target.
+     */
+    @FunctionalInterface
+    private interface Step {
+        void read(Object target, ByteBuffer buffer);
+    }
+
+    private static final class Plan {
+
+        private final Supplier<?> constructor;
+
+        private final Step[] steps;
+
+        Plan(Class<?> type, Backend backend, ClassValue<Plan> plans) throws ReflectiveOperationException {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            this.constructor = backend.constructor(constructor);
+            Property[] properties = Property.of(type);
+            steps = new Step[properties.length];
+            for (int i = 0; i < properties.length; i++) {
+                if (Modifier.isFinal(properties[i].field.getModifiers())) {
+                    throw new IllegalArgumentException("Cannot deserialize final field " + properties[i].field);
+                }
+                steps[i] = step(properties[i], backend, plans);
+            }
+        }
+
+        /**
+         * Picks the setter of the property's kind, such that each value is written without boxing.
+         */
+        private static Step step(Property property, Backend backend, ClassValue<Plan> plans) throws ReflectiveOperationException {
+            switch (property.kind) {
+                case BOOLEAN: {
+                    BooleanSetter setter = backend.booleanSetter(property.field);
+                    return (target, buffer) -> setter.set(target, buffer.get() != 0);
+                }
+                case INT: {
+                    IntSetter setter = backend.intSetter(property.field);
+                    return (target, buffer) -> setter.set(target, buffer.getInt());
+                }
+                case LONG: {
+                    LongSetter setter = backend.longSetter(property.field);
+                    return (target, buffer) -> setter.set(target, buffer.getLong());
+                }
+                case DOUBLE: {
+                    DoubleSetter setter = backend.doubleSetter(property.field);
+                    return (target, buffer) -> setter.set(target, buffer.getDouble());
+                }
+                case STRING: {
+                    ObjectSetter setter = backend.objectSetter(property.field);
+                    return (target, buffer) -> setter.set(target, readString(buffer));
+                }
+                case LIST: {
+                    ObjectSetter setter = backend.objectSetter(property.field);
+                    return (target, buffer) -> setter.set(target, readList(plans, property, buffer));
+                }
+                case OBJECT: {
+                    ObjectSetter setter = backend.objectSetter(property.field);
+                    return (target, buffer) -> setter.set(target, read(plans, property.type, buffer));
+                }
+                default:
+                    throw new AssertionError();
+            }
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package benchmark.access;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Delivers events to the {@link Subscribe} methods of registered subscribers whose parameter type is the event's
+ * exact class. Every subscriber is registered with one {@link Backend} which decides how its methods are invoked.
+ * <p>
+ * Subscriber methods are resolved once per class and backend such that registering many instances of a class does
+ * not spin a class per instance. Registration is synchronized, posting only reads an immutable snapshot.
+ */
+public final class EventBus {
+
+    public enum Backend {
+
+        /**
+         * {@link Method#invoke(Object, Object...)}.
+         */
+        REFLECTION,
+
+        /**
+         * {@link MethodHandle#invoke(Object...)} on the unreflected method.
+         */
+        HANDLE,
+
+        /**
+         * {@link MethodHandle#invokeExact(Object...)} on the unreflected method, erased to {@code (Object, Object)void}.
+         */
+        HANDLE_EXACT,
+
+        /**
+         * An {@link Invoker} spun by the {@link LambdaMetafactory}.
+         */
+        LAMBDA,
+
+        /**
+         * An {@link Invoker} spun by the {@link AccessorGenerator}.
+         */
+        GENERATED
+    }
+
+    @FunctionalInterface
+    public interface Invoker {
+        void invoke(Object subscriber, Object event);
+    }
+
+    private static final MethodType ERASED = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Map<Class<?>, Map<Backend, List<Binding>>> bindings = new HashMap<>();
+
+    private volatile Map<Class<?>, Delivery[]> deliveries = Collections.emptyMap();
+
+    /**
+     * Registers all subscriber methods of the subscriber's class, which must be accessible to the given lookup. The
+     * lambda backend additionally requires the lookup to have full privilege access to the subscriber's class.
+     */
+    public synchronized void register(MethodHandles.Lookup lookup, Object subscriber, Backend backend) throws ReflectiveOperationException {
+        Map<Backend, List<Binding>> resolved = bindings.computeIfAbsent(subscriber.getClass(), type -> new EnumMap<>(Backend.class));
+        List<Binding> methods = resolved.get(backend);
+        if (methods == null) {
+            methods = new ArrayList<>();
+            for (Method method : subscriber.getClass().getMethods()) {
+                if (method.isAnnotationPresent(Subscribe.class)) {
+                    methods.add(bind(lookup, method, backend));
+                }
+            }
+            resolved.put(backend, methods);
+        }
+        Map<Class<?>, Delivery[]> deliveries = new HashMap<>(this.deliveries);
+        for (Binding binding : methods) {
+            Delivery[] current = deliveries.getOrDefault(binding.eventType, new Delivery[0]);
+            Delivery[] extended = Arrays.copyOf(current, current.length + 1);
+            extended[current.length] = binding.binder.bind(subscriber);
+            deliveries.put(binding.eventType, extended);
+        }
+        this.deliveries = deliveries;
+    }
+
+    /**
+     * Delivers the event on the calling thread and returns the number of subscribers it was delivered to.
+     */
+    public int post(Object event) {
+        Delivery[] targets = deliveries.get(event.getClass());
+        if (targets == null) {
+            return 0;
+        }
+        deliver(targets, 0, targets.length, event);
+        return targets.length;
+    }
+
+    /**
+     * Splits the subscribers into the given number of slices and delivers all but the last on the executor, waiting
+     * for every slice to complete. Returns the number of subscribers the event was delivered to.
+     */
+    public int post(Object event, ExecutorService executor, int parallelism) {
+        Delivery[] targets = deliveries.get(event.getClass());
+        if (targets == null) {
+            return 0;
+        }
+        int slice = (targets.length + parallelism - 1) / parallelism;
+        List<Future<?>> futures = new ArrayList<>(parallelism - 1);
+        for (int from = slice; from < targets.length; from += slice) {
+            int start = from, end = Math.min(targets.length, from + slice);
+            futures.add(executor.submit(() -> deliver(targets, start, end, event)));
+        }
+        deliver(targets, 0, Math.min(targets.length, slice), event);
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return targets.length;
+    }
+
+    private static void deliver(Delivery[] targets, int from, int to, Object event) {
+        try {
+            for (int i = from; i < to; i++) {
+                targets[i].deliver(event);
+            }
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static Binding bind(MethodHandles.Lookup lookup, Method method, Backend backend) throws ReflectiveOperationException {
+        if (method.getParameterCount() != 1) {
+            throw new IllegalArgumentException("Subscriber method must declare a single parameter: " + method);
+        }
+        Class<?> eventType = method.getParameterTypes()[0];
+        switch (backend) {
+            case REFLECTION:
+                return new Binding(eventType, subscriber -> event -> {
+                    try {
+                        method.invoke(subscriber, event);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+            case HANDLE: {
+                MethodHandle handle = lookup.unreflect(method);
+                return new Binding(eventType, subscriber -> event -> handle.invoke(subscriber, event));
+            }
+            case HANDLE_EXACT: {
+                MethodHandle handle = lookup.unreflect(method).asType(ERASED);
+                return new Binding(eventType, subscriber -> event -> {
+                    handle.invokeExact(subscriber, event);
+                });
+            }
+            case LAMBDA:
+                return invoker(eventType, lambda(lookup, method));
+            case GENERATED:
+                return invoker(eventType, AccessorGenerator.method(lookup, Invoker.class, method));
+            default:
+                throw new AssertionError();
+        }
+    }
+
+    private static Invoker lambda(MethodHandles.Lookup lookup, Method method) throws ReflectiveOperationException {
+        MethodHandle handle = lookup.unreflect(method);
+        try {
+            CallSite lambdaSite = LambdaMetafactory.metafactory(
+                lookup,
+                "invoke",
+                MethodType.methodType(Invoker.class),
+                ERASED,
+                handle,
+                handle.type().changeReturnType(void.class));
+            return (Invoker) lambdaSite.getTarget().invokeExact();
+        } catch (ReflectiveOperationException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    private static Binding invoker(Class<?> eventType, Invoker invoker) {
+        return new Binding(eventType, subscriber -> event -> invoker.invoke(subscriber, event));
+    }
+
+    private static RuntimeException rethrow(Throwable throwable) {
+        if (throwable instanceof RuntimeException) {
+            return (RuntimeException) throwable;
+        } else if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+        return new IllegalStateException(throwable);
+    }
+
+    @FunctionalInterface
+    private interface Delivery {
+        void deliver(Object event) throws Throwable;
+    }
+
+    @FunctionalInterface
+    private interface Binder {
+        Delivery bind(Object subscriber);
+    }
+
+    private static final class Binding {
+
+        private final Class<?> eventType;
+
+        private final Binder binder;
+
+        Binding(Class<?> eventType, Binder binder) {
+            this.eventType = eventType;
+            this.binder = binder;
+        }
+    }
+}
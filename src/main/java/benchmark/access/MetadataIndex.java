@@ -0,0 +1,307 @@
+package benchmark.access;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * An immutable table of the declared members and annotations of a set of classes, resolved by reflection once and
+ * queried without it afterwards. The index is a single flat buffer that can be written to disk and mapped back at
+ * startup, so it neither has to be parsed nor does it live on the heap.
+ * <p>
+ * All strings are deduplicated into one sorted table and referenced by their position, such that annotation lookups
+ * compare integers once the annotation's name was resolved with {@link #string(String)}. Classes are sorted by name.
+ * <p>
+ * Layout, all integers big endian:
+ * <pre>
+ * header       MAGIC, VERSION, strings, classes, members, annotations
+ * strings      one absolute offset per string
+ * classes      name, first member, member count, first annotation, annotation count
+ * members      kind, name, generic signature, first annotation, annotation count
+ * annotations  the annotation type's name
+ * data         per string its length in bytes and its UTF-8 encoding
+ * </pre>
+ */
+public final class MetadataIndex {
+
+    public static final int FIELD = 0, METHOD = 1;
+
+    private static final int MAGIC = 0x4d455441, VERSION = 1;
+
+    private static final int HEADER = 6, CLASS = 5, MEMBER = 5;
+
+    private final ByteBuffer buffer;
+
+    private final int strings, classes, members, classOffset, memberOffset, annotationOffset;
+
+    private MetadataIndex(ByteBuffer buffer) {
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Not a metadata index of version " + VERSION);
+        }
+        this.buffer = buffer.asReadOnlyBuffer();
+        strings = buffer.getInt(8);
+        classes = buffer.getInt(12);
+        members = buffer.getInt(16);
+        classOffset = 4 * (HEADER + strings);
+        memberOffset = classOffset + 4 * CLASS * classes;
+        annotationOffset = memberOffset + 4 * MEMBER * members;
+    }
+
+    /**
+     * Indexes the declared fields, methods and runtime visible annotations of the given classes.
+     */
+    public static MetadataIndex build(Collection<Class<?>> types) {
+        List<Class<?>> sorted = new ArrayList<>(types);
+        sorted.sort(Comparator.comparing(Class::getName));
+
+        SortedSet<String> names = new TreeSet<>();
+        for (Class<?> type : sorted) {
+            names.add(type.getName());
+            collect(names, type);
+            for (Field field : type.getDeclaredFields()) {
+                names.add(field.getName());
+                names.add(field.toGenericString());
+                collect(names, field);
+            }
+            for (Method method : type.getDeclaredMethods()) {
+                names.add(method.getName());
+                names.add(method.toGenericString());
+                collect(names, method);
+            }
+        }
+        Map<String, Integer> ids = new HashMap<>();
+        for (String name : names) {
+            ids.put(name, ids.size());
+        }
+
+        IntList classTable = new IntList(), memberTable = new IntList(), annotationTable = new IntList();
+        for (Class<?> type : sorted) {
+            Field[] fields = type.getDeclaredFields();
+            Method[] methods = type.getDeclaredMethods();
+            classTable.add(ids.get(type.getName()));
+            classTable.add(memberTable.size() / MEMBER);
+            classTable.add(fields.length + methods.length);
+            annotations(classTable, annotationTable, ids, type);
+            for (Field field : fields) {
+                member(memberTable, annotationTable, ids, FIELD, field, field);
+            }
+            for (Method method : methods) {
+                member(memberTable, annotationTable, ids, METHOD, method, method);
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(names.size());
+            out.writeInt(classTable.size() / CLASS);
+            out.writeInt(memberTable.size() / MEMBER);
+            out.writeInt(annotationTable.size());
+            int offset = 4 * (HEADER + names.size() + classTable.size() + memberTable.size() + annotationTable.size());
+            List<byte[]> encoded = new ArrayList<>(names.size());
+            for (String name : names) {
+                byte[] utf8 = name.getBytes(StandardCharsets.UTF_8);
+                encoded.add(utf8);
+                out.writeInt(offset);
+                offset += 4 + utf8.length;
+            }
+            classTable.write(out);
+            memberTable.write(out);
+            annotationTable.write(out);
+            for (byte[] utf8 : encoded) {
+                out.writeInt(utf8.length);
+                out.write(utf8);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return new MetadataIndex(ByteBuffer.wrap(bytes.toByteArray()));
+    }
+
+    /**
+     * Maps an index that was previously written with {@link #write(File)}. The file must not change while mapped.
+     */
+    public static MetadataIndex map(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return new MetadataIndex(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public void write(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer content = buffer.duplicate();
+            content.clear();
+            while (content.hasRemaining()) {
+                channel.write(content);
+            }
+        }
+    }
+
+    /**
+     * The size of the index in bytes.
+     */
+    public int size() {
+        return buffer.capacity();
+    }
+
+    public int classes() {
+        return classes;
+    }
+
+    /**
+     * Resolves a string to its position in the string table or returns {@code -1} if no class, member or
+     * annotation of this name is indexed.
+     */
+    public int string(String value) {
+        int low = 0, high = strings - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1, comparison = string(middle).compareTo(value);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    public String string(int id) {
+        int offset = buffer.getInt(4 * (HEADER + id)), length = buffer.getInt(offset);
+        byte[] utf8 = new byte[length];
+        ByteBuffer data = buffer.duplicate();
+        data.position(offset + 4);
+        data.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the position of a class in the index or {@code -1} if it is not indexed.
+     */
+    public int find(String className) {
+        int name = string(className);
+        if (name < 0) {
+            return -1;
+        }
+        int low = 0, high = classes - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1, current = classInt(middle, 0);
+            if (current < name) {
+                low = middle + 1;
+            } else if (current > name) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    public String className(int type) {
+        return string(classInt(type, 0));
+    }
+
+    public boolean isAnnotated(int type, int annotation) {
+        return contains(classInt(type, 3), classInt(type, 4), annotation);
+    }
+
+    public int members(int type) {
+        return classInt(type, 2);
+    }
+
+    public int kind(int type, int member) {
+        return memberInt(type, member, 0);
+    }
+
+    public String memberName(int type, int member) {
+        return string(memberInt(type, member, 1));
+    }
+
+    /**
+     * The member's {@code toGenericString()}.
+     */
+    public String signature(int type, int member) {
+        return string(memberInt(type, member, 2));
+    }
+
+    public boolean isAnnotated(int type, int member, int annotation) {
+        return contains(memberInt(type, member, 3), memberInt(type, member, 4), annotation);
+    }
+
+    private int classInt(int type, int index) {
+        return buffer.getInt(classOffset + 4 * (CLASS * type + index));
+    }
+
+    private int memberInt(int type, int member, int index) {
+        return buffer.getInt(memberOffset + 4 * (MEMBER * (classInt(type, 1) + member) + index));
+    }
+
+    private boolean contains(int first, int count, int annotation) {
+        for (int i = first; i < first + count; i++) {
+            if (buffer.getInt(annotationOffset + 4 * i) == annotation) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void collect(Set<String> names, AnnotatedElement element) {
+        for (Annotation annotation : element.getDeclaredAnnotations()) {
+            names.add(annotation.annotationType().getName());
+        }
+    }
+
+    private static void member(IntList members, IntList annotations, Map<String, Integer> ids, int kind, Member member, AnnotatedElement element) {
+        members.add(kind);
+        members.add(ids.get(member.getName()));
+        members.add(ids.get(kind == FIELD ? ((Field) member).toGenericString() : ((Method) member).toGenericString()));
+        annotations(members, annotations, ids, element);
+    }
+
+    private static void annotations(IntList table, IntList annotations, Map<String, Integer> ids, AnnotatedElement element) {
+        Annotation[] declared = element.getDeclaredAnnotations();
+        table.add(annotations.size());
+        table.add(declared.length);
+        for (Annotation annotation : declared) {
+            annotations.add(ids.get(annotation.annotationType().getName()));
+        }
+    }
+
+    private static final class IntList {
+
+        private int[] values = new int[64];
+
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            for (int i = 0; i < size; i++) {
+                out.writeInt(values[i]);
+            }
+        }
+    }
+}
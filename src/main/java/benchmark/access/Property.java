@@ -0,0 +1,104 @@
+package benchmark.access;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * An instance field of a class in the binary format of {@link Serializers}, in the order it is written in.
+ */
+final class Property {
+
+    enum Kind {
+        BOOLEAN,
+        INT,
+        LONG,
+        DOUBLE,
+        STRING,
+        LIST,
+        OBJECT
+    }
+
+    final Field field;
+
+    final Kind kind;
+
+    /**
+     * The declared type of a nested object or the element type of a list.
+     */
+    final Class<?> type;
+
+    final Kind elementKind;
+
+    private Property(Field field, Kind kind, Class<?> type, Kind elementKind) {
+        this.field = field;
+        this.kind = kind;
+        this.type = type;
+        this.elementKind = elementKind;
+    }
+
+    /**
+     * Resolves the properties of a class by reflection, sorted by name since the order of declared fields is
+     * unspecified.
+     */
+    static Property[] of(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                field.setAccessible(true);
+                fields.add(field);
+            }
+        }
+        fields.sort(Comparator.comparing(Field::getName));
+        Property[] properties = new Property[fields.size()];
+        for (int i = 0; i < properties.length; i++) {
+            Field field = fields.get(i);
+            Kind kind = kind(field.getType());
+            if (kind == Kind.LIST) {
+                Class<?> element = element(field);
+                Kind elementKind = kind(element);
+                if (elementKind != Kind.STRING && elementKind != Kind.OBJECT) {
+                    throw new IllegalArgumentException("Unsupported list element type of " + field);
+                }
+                properties[i] = new Property(field, kind, element, elementKind);
+            } else {
+                properties[i] = new Property(field, kind, kind == Kind.OBJECT ? field.getType() : null, null);
+            }
+        }
+        return properties;
+    }
+
+    static Kind kind(Class<?> type) {
+        if (type == boolean.class) {
+            return Kind.BOOLEAN;
+        } else if (type == int.class) {
+            return Kind.INT;
+        } else if (type == long.class) {
+            return Kind.LONG;
+        } else if (type == double.class) {
+            return Kind.DOUBLE;
+        } else if (type == String.class) {
+            return Kind.STRING;
+        } else if (type == List.class) {
+            return Kind.LIST;
+        } else if (type.isPrimitive() || type.isArray() || type.isInterface() || type.getName().startsWith("java.")) {
+            throw new IllegalArgumentException("Unsupported type " + type.getName());
+        }
+        return Kind.OBJECT;
+    }
+
+    private static Class<?> element(Field field) {
+        Type type = field.getGenericType();
+        if (type instanceof ParameterizedType) {
+            Type argument = ((ParameterizedType) type).getActualTypeArguments()[0];
+            if (argument instanceof Class<?>) {
+                return (Class<?>) argument;
+            }
+        }
+        throw new IllegalArgumentException("Cannot resolve the element type of " + field);
+    }
+}
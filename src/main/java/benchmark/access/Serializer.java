@@ -0,0 +1,12 @@
+package benchmark.access;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Writes an object graph into a buffer at its current position, see {@link Serializers} for the format and backends.
+ */
+@FunctionalInterface
+public interface Serializer {
+
+    void write(Object value, ByteBuffer buffer);
+}
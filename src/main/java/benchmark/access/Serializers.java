@@ -0,0 +1,343 @@
+package benchmark.access;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Creates {@link Serializer}s that write the instance fields of an object graph, sorted by name, without any type
+ * information such that nested objects and list elements must be of their declared type. Cycles are not detected.
+ * <p>
+ * Format, all numbers big endian as written by {@link ByteBuffer}:
+ * <pre>
+ * object   byte 0 for null, or byte 1 followed by its fields
+ * boolean  byte 0 or 1
+ * int      4 bytes, likewise 8 bytes for long and double
+ * String   int -1 for null, or its length followed by its chars in UTF-16
+ * List     int -1 for null, or its size followed by its elements, each a String or an object
+ * </pre>
+ */
+public final class Serializers {
+
+    private static final MethodHandle PUT, PUT_INT, PUT_LONG, PUT_DOUBLE, WRITE_BOOLEAN, WRITE_STRING, WRITE_LIST, IS_NULL, NOTHING;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            PUT = lookup.findVirtual(ByteBuffer.class, "put", MethodType.methodType(ByteBuffer.class, byte.class));
+            PUT_INT = lookup.findVirtual(ByteBuffer.class, "putInt", MethodType.methodType(ByteBuffer.class, int.class));
+            PUT_LONG = lookup.findVirtual(ByteBuffer.class, "putLong", MethodType.methodType(ByteBuffer.class, long.class));
+            PUT_DOUBLE = lookup.findVirtual(ByteBuffer.class, "putDouble", MethodType.methodType(ByteBuffer.class, double.class));
+            WRITE_BOOLEAN = lookup.findStatic(Serializers.class, "writeBoolean", MethodType.methodType(void.class, boolean.class, ByteBuffer.class));
+            WRITE_STRING = lookup.findStatic(Serializers.class, "writeString", MethodType.methodType(void.class, String.class, ByteBuffer.class));
+            WRITE_LIST = lookup.findStatic(Serializers.class, "writeList",
+                                           MethodType.methodType(void.class, MethodHandle.class, List.class, ByteBuffer.class));
+            IS_NULL = lookup.findStatic(Objects.class, "isNull", MethodType.methodType(boolean.class, Object.class));
+            NOTHING = lookup.findStatic(Serializers.class, "nothing", MethodType.methodType(void.class, Object.class, ByteBuffer.class));
+        } catch (Exception e) {
+            throw new AssertionError();
+        }
+    }
+
+    private Serializers() {
+        /* static only */
+    }
+
+    /**
+     * Walks the fields of every object by reflection on each call, as a serializer without any caching would.
+     */
+    public static Serializer reflective() {
+        return (value, buffer) -> {
+            try {
+                reflective(value, value.getClass(), buffer);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    /**
+     * Resolves every class once into a plan of getter handles, cached per class, which is then interpreted on each call.
+     * Getters of primitive fields are invoked exactly such that no value is boxed.
+     */
+    public static Serializer handles(MethodHandles.Lookup lookup) {
+        ClassValue<Plan> plans = new ClassValue<Plan>() {
+            @Override
+            protected Plan computeValue(Class<?> type) {
+                try {
+                    return new Plan(lookup, type);
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalArgumentException(e);
+                }
+            }
+        };
+        return (value, buffer) -> {
+            try {
+                handles(plans, value, value.getClass(), buffer);
+            } catch (Throwable throwable) {
+                throw rethrow(throwable);
+            }
+        };
+    }
+
+    /**
+     * Composes the serialization of a class and all classes it references into a single handle of type
+     * {@code (Object, ByteBuffer)void}. Recursive types are rejected since the handle would be infinite.
+     */
+    public static Serializer composed(MethodHandles.Lookup lookup, Class<?> type) throws ReflectiveOperationException {
+        MethodHandle writer = object(lookup, type, new HashSet<>());
+        return (value, buffer) -> {
+            try {
+                writer.invokeExact(value, buffer);
+            } catch (Throwable throwable) {
+                throw rethrow(throwable);
+            }
+        };
+    }
+
+    private static void reflective(Object value, Class<?> type, ByteBuffer buffer) throws IllegalAccessException {
+        if (value == null) {
+            buffer.put((byte) 0);
+            return;
+        }
+        buffer.put((byte) 1);
+        for (Property property : Property.of(type)) {
+            switch (property.kind) {
+                case BOOLEAN:
+                    writeBoolean(property.field.getBoolean(value), buffer);
+                    break;
+                case INT:
+                    buffer.putInt(property.field.getInt(value));
+                    break;
+                case LONG:
+                    buffer.putLong(property.field.getLong(value));
+                    break;
+                case DOUBLE:
+                    buffer.putDouble(property.field.getDouble(value));
+                    break;
+                case STRING:
+                    writeString((String) property.field.get(value), buffer);
+                    break;
+                case LIST: {
+                    List<?> list = (List<?>) property.field.get(value);
+                    if (list == null) {
+                        buffer.putInt(-1);
+                        break;
+                    }
+                    buffer.putInt(list.size());
+                    for (Object element : list) {
+                        if (property.elementKind == Property.Kind.STRING) {
+                            writeString((String) element, buffer);
+                        } else {
+                            reflective(element, property.type, buffer);
+                        }
+                    }
+                    break;
+                }
+                case OBJECT:
+                    reflective(property.field.get(value), property.type, buffer);
+                    break;
+                default:
+                    throw new AssertionError();
+            }
+        }
+    }
+
+    private static void handles(ClassValue<Plan> plans, Object value, Class<?> type, ByteBuffer buffer) throws Throwable {
+        if (value == null) {
+            buffer.put((byte) 0);
+            return;
+        }
+        buffer.put((byte) 1);
+        Plan plan = plans.get(type);
+        for (int i = 0; i < plan.properties.length; i++) {
+            Property property = plan.properties[i];
+            MethodHandle getter = plan.getters[i];
+            switch (property.kind) {
+                case BOOLEAN:
+                    writeBoolean((boolean) getter.invokeExact(value), buffer);
+                    break;
+                case INT:
+                    buffer.putInt((int) getter.invokeExact(value));
+                    break;
+                case LONG:
+                    buffer.putLong((long) getter.invokeExact(value));
+                    break;
+                case DOUBLE:
+                    buffer.putDouble((double) getter.invokeExact(value));
+                    break;
+                case STRING:
+                    writeString((String) (Object) getter.invokeExact(value), buffer);
+                    break;
+                case LIST: {
+                    List<?> list = (List<?>) (Object) getter.invokeExact(value);
+                    if (list == null) {
+                        buffer.putInt(-1);
+                        break;
+                    }
+                    int size = list.size();
+                    buffer.putInt(size);
+                    if (list instanceof RandomAccess) {
+                        for (int index = 0; index < size; index++) {
+                            element(plans, property, list.get(index), buffer);
+                        }
+                    } else {
+                        for (Object element : list) {
+                            element(plans, property, element, buffer);
+                        }
+                    }
+                    break;
+                }
+                case OBJECT:
+                    handles(plans, (Object) getter.invokeExact(value), property.type, buffer);
+                    break;
+                default:
+                    throw new AssertionError();
+            }
+        }
+    }
+
+    private static void element(ClassValue<Plan> plans, Property property, Object element, ByteBuffer buffer) throws Throwable {
+        if (property.elementKind == Property.Kind.STRING) {
+            writeString((String) element, buffer);
+        } else {
+            handles(plans, element, property.type, buffer);
+        }
+    }
+
+    /**
+     * Returns a handle of type {@code (Object, ByteBuffer)void} that writes an object or its null marker.
+     */
+    private static MethodHandle object(MethodHandles.Lookup lookup, Class<?> type, Set<Class<?>> composing) throws ReflectiveOperationException {
+        if (!composing.add(type)) {
+            throw new IllegalArgumentException("Cannot compose a serializer for recursive type " + type.getName());
+        }
+        Property[] properties = Property.of(type);
+        MethodHandle[] writers = new MethodHandle[properties.length];
+        for (int i = 0; i < properties.length; i++) {
+            MethodHandle value = value(lookup, properties[i], composing);
+            MethodHandle getter = lookup.unreflectGetter(properties[i].field)
+                .asType(MethodType.methodType(value.type().parameterType(0), Object.class));
+            writers[i] = MethodHandles.filterArguments(value, 0, getter);
+        }
+        composing.remove(type);
+        MethodHandle fields = fold(writers, 0, writers.length);
+        return MethodHandles.guardWithTest(IS_NULL,
+                                           MethodHandles.dropArguments(marker((byte) 0), 0, Object.class),
+                                           MethodHandles.foldArguments(fields, MethodHandles.dropArguments(marker((byte) 1), 0, Object.class)));
+    }
+
+    /**
+     * Returns a handle of type {@code (T, ByteBuffer)void} that writes a value of the property's type.
+     */
+    private static MethodHandle value(MethodHandles.Lookup lookup, Property property, Set<Class<?>> composing) throws ReflectiveOperationException {
+        switch (property.kind) {
+            case BOOLEAN:
+                return WRITE_BOOLEAN;
+            case INT:
+                return primitive(PUT_INT, int.class);
+            case LONG:
+                return primitive(PUT_LONG, long.class);
+            case DOUBLE:
+                return primitive(PUT_DOUBLE, double.class);
+            case STRING:
+                return WRITE_STRING;
+            case LIST:
+                return MethodHandles.insertArguments(WRITE_LIST, 0, property.elementKind == Property.Kind.STRING
+                    ? WRITE_STRING.asType(MethodType.methodType(void.class, Object.class, ByteBuffer.class))
+                    : object(lookup, property.type, composing));
+            case OBJECT:
+                return object(lookup, property.type, composing);
+            default:
+                throw new AssertionError();
+        }
+    }
+
+    private static MethodHandle primitive(MethodHandle put, Class<?> type) {
+        return MethodHandles.permuteArguments(put.asType(MethodType.methodType(void.class, ByteBuffer.class, type)),
+                                              MethodType.methodType(void.class, type, ByteBuffer.class), 1, 0);
+    }
+
+    private static MethodHandle marker(byte value) {
+        return MethodHandles.insertArguments(PUT, 1, value).asType(MethodType.methodType(void.class, ByteBuffer.class));
+    }
+
+    private static MethodHandle fold(MethodHandle[] writers, int from, int to) {
+        if (from == to) {
+            return NOTHING;
+        } else if (to - from == 1) {
+            return writers[from];
+        }
+        int middle = (from + to) >>> 1;
+        return MethodHandles.foldArguments(fold(writers, middle, to), fold(writers, from, middle));
+    }
+
+    private static void writeBoolean(boolean value, ByteBuffer buffer) {
+        buffer.put(value ? (byte) 1 : (byte) 0);
+    }
+
+    private static void writeString(String value, ByteBuffer buffer) {
+        if (value == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        int length = value.length();
+        buffer.putInt(length);
+        for (int i = 0; i < length; i++) {
+            buffer.putChar(value.charAt(i));
+        }
+    }
+
+    private static void writeList(MethodHandle element, List<?> list, ByteBuffer buffer) throws Throwable {
+        if (list == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        int size = list.size();
+        buffer.putInt(size);
+        if (list instanceof RandomAccess) {
+            for (int i = 0; i < size; i++) {
+                element.invokeExact(list.get(i), buffer);
+            }
+        } else {
+            for (Object value : list) {
+                element.invokeExact(value, buffer);
+            }
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable throwable) {
+        if (throwable instanceof RuntimeException) {
+            return (RuntimeException) throwable;
+        } else if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+        return new IllegalStateException(throwable);
+    }
+
+    private static void nothing(Object value, ByteBuffer buffer) {
+        /* empty */
+    }
+
+    private static final class Plan {
+
+        private final Property[] properties;
+
+        private final MethodHandle[] getters;
+
+        Plan(MethodHandles.Lookup lookup, Class<?> type) throws ReflectiveOperationException {
+            properties = Property.of(type);
+            getters = new MethodHandle[properties.length];
+            for (int i = 0; i < properties.length; i++) {
+                Class<?> returned = properties[i].field.getType().isPrimitive() ? properties[i].field.getType() : Object.class;
+                getters[i] = lookup.unreflectGetter(properties[i].field).asType(MethodType.methodType(returned, Object.class));
+            }
+        }
+    }
+}
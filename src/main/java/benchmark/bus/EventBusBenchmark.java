@@ -0,0 +1,112 @@
+package benchmark.bus;
+
+import benchmark.access.ClassDefiner;
+import benchmark.access.EventBus;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Posts events to a bus with a number of subscribers, all registered with the same backend, reported as posted events
+ * per second. The subscribers are instances of up to {@link #TYPES} distinct classes, assigned round robin.
+ * <p>
+ * With a parallelism above one, the fan-out is split into slices that are delivered on a thread pool.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EventBusBenchmark {
+
+    static final int TYPES = 8;
+
+    @Param({"1", "10", "100", "1000", "10000"})
+    private int subscribers;
+
+    @Param({"1", "4"})
+    private int parallelism;
+
+    private Event event = new Event(42);
+
+    private ExecutorService executor;
+
+    private EventBus
+        reflective,
+        handles,
+        handlesExact,
+        lambdas,
+        generated;
+
+    public static final class Event {
+
+        public final int value;
+
+        Event(int value) {
+            this.value = value;
+        }
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        Class<?>[] types = Subscribers.define(Math.min(TYPES, subscribers));
+        MethodHandles.Lookup[] lookups = new MethodHandles.Lookup[types.length];
+        for (int i = 0; i < types.length; i++) {
+            lookups[i] = ClassDefiner.lookup(types[i]);
+        }
+
+        reflective = new EventBus();
+        handles = new EventBus();
+        handlesExact = new EventBus();
+        lambdas = new EventBus();
+        generated = new EventBus();
+        for (int i = 0; i < subscribers; i++) {
+            MethodHandles.Lookup lookup = lookups[i % types.length];
+            Object subscriber = types[i % types.length].getConstructor().newInstance();
+            reflective.register(lookup, subscriber, EventBus.Backend.REFLECTION);
+            handles.register(lookup, subscriber, EventBus.Backend.HANDLE);
+            handlesExact.register(lookup, subscriber, EventBus.Backend.HANDLE_EXACT);
+            lambdas.register(lookup, subscriber, EventBus.Backend.LAMBDA);
+            generated.register(lookup, subscriber, EventBus.Backend.GENERATED);
+        }
+
+        executor = parallelism > 1 ? Executors.newFixedThreadPool(parallelism - 1) : null;
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Benchmark
+    public int reflection() {
+        return post(reflective);
+    }
+
+    @Benchmark
+    public int handle() {
+        return post(handles);
+    }
+
+    @Benchmark
+    public int handleExact() {
+        return post(handlesExact);
+    }
+
+    @Benchmark
+    public int lambda() {
+        return post(lambdas);
+    }
+
+    @Benchmark
+    public int generated() {
+        return post(generated);
+    }
+
+    private int post(EventBus bus) {
+        return executor == null ? bus.post(event) : bus.post(event, executor, parallelism);
+    }
+}
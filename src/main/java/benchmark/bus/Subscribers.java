@@ -0,0 +1,68 @@
+package benchmark.bus;
+
+import benchmark.access.ClassDefiner;
+import benchmark.access.Subscribe;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Defines distinct subscriber classes, such that the dispatch of a bus with many subscribers becomes megamorphic:
+ * <pre>
+ * public class Generated {
+ *     public long received;
+ *     &#64;Subscribe
+ *     public void on(Event event) { received += event.value; }
+ *     public static Lookup lookup() { return MethodHandles.lookup(); }
+ * }
+ * </pre>
+ */
+final class Subscribers {
+
+    private Subscribers() {
+        /* static only */
+    }
+
+    static Class<?>[] define(int count) {
+        ClassDefiner definer = new ClassDefiner(Subscribers.class.getClassLoader());
+        Class<?>[] classes = new Class<?>[count];
+        for (int i = 0; i < count; i++) {
+            String name = Subscribers.class.getName() + "$Generated" + i;
+            classes[i] = definer.define(name, () -> emit(name));
+        }
+        return classes;
+    }
+
+    private static byte[] emit(String name) {
+        String internalName = name.replace('.', '/'), event = Type.getInternalName(EventBusBenchmark.Event.class);
+
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        writer.visit(V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, internalName, null, "java/lang/Object", null);
+
+        writer.visitField(ACC_PUBLIC, "received", "J", null, null).visitEnd();
+
+        ClassDefiner.emitConstructor(writer, "java/lang/Object");
+
+        MethodVisitor method = writer.visitMethod(ACC_PUBLIC, "on", "(L" + event + ";)V", null, null);
+        method.visitAnnotation(Type.getDescriptor(Subscribe.class), true).visitEnd();
+        method.visitCode();
+        method.visitVarInsn(ALOAD, 0);
+        method.visitInsn(DUP);
+        method.visitFieldInsn(GETFIELD, internalName, "received", "J");
+        method.visitVarInsn(ALOAD, 1);
+        method.visitFieldInsn(GETFIELD, event, "value", "I");
+        method.visitInsn(I2L);
+        method.visitInsn(LADD);
+        method.visitFieldInsn(PUTFIELD, internalName, "received", "J");
+        method.visitInsn(RETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+
+        ClassDefiner.emitLookup(writer);
+
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+}
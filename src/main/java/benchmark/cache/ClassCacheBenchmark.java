@@ -0,0 +1,102 @@
+package benchmark.cache;
+
+import benchmark.access.ClassCache;
+import benchmark.access.ClassCaches;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures cache hits of the {@link ClassCaches} while cycling over a number of classes, with all threads sharing the
+ * caches. The subclasses fix the number of threads to show how the caches behave under contention.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public abstract class ClassCacheBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int classes;
+
+    private Class<?>[] types;
+
+    private ClassCache<String>
+        classValue,
+        concurrentHashMap,
+        stripedWeakHashMap,
+        identityTable;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int index;
+
+        @Setup
+        public void setup() {
+            index = ThreadLocalRandom.current().nextInt(1 << 16);
+        }
+
+        int next(int length) {
+            if (++index >= length) {
+                index = 0;
+            }
+            return index;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        types = Classes.define(classes);
+        classValue = ClassCaches.classValue(Class::getName);
+        concurrentHashMap = ClassCaches.concurrentHashMap(Class::getName);
+        stripedWeakHashMap = ClassCaches.stripedWeakHashMap(Class::getName, 16);
+        identityTable = ClassCaches.identityTable(Class::getName);
+        for (Class<?> type : types) {
+            classValue.get(type);
+            concurrentHashMap.get(type);
+            stripedWeakHashMap.get(type);
+            identityTable.get(type);
+        }
+    }
+
+    @Benchmark
+    public Object classValue(Cursor cursor) {
+        return classValue.get(types[cursor.next(types.length)]);
+    }
+
+    @Benchmark
+    public Object concurrentHashMap(Cursor cursor) {
+        return concurrentHashMap.get(types[cursor.next(types.length)]);
+    }
+
+    @Benchmark
+    public Object stripedWeakHashMap(Cursor cursor) {
+        return stripedWeakHashMap.get(types[cursor.next(types.length)]);
+    }
+
+    @Benchmark
+    public Object identityTable(Cursor cursor) {
+        return identityTable.get(types[cursor.next(types.length)]);
+    }
+
+    @Threads(1)
+    public static class Threads1 extends ClassCacheBenchmark {
+    }
+
+    @Threads(2)
+    public static class Threads2 extends ClassCacheBenchmark {
+    }
+
+    @Threads(4)
+    public static class Threads4 extends ClassCacheBenchmark {
+    }
+
+    @Threads(8)
+    public static class Threads8 extends ClassCacheBenchmark {
+    }
+
+    @Threads(Threads.MAX)
+    public static class ThreadsMax extends ClassCacheBenchmark {
+    }
+}
@@ -0,0 +1,102 @@
+package benchmark.cache;
+
+import benchmark.access.ClassCache;
+import benchmark.access.ClassCaches;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures filling the {@link ClassCaches} with the classes of a fresh class loader, which is dropped afterwards.
+ * <p>
+ * Next to the time, {@link Unloading} reports how many classes the JVM unloaded once the loader became unreachable
+ * and how much heap the cache still retains after collecting garbage. Every iteration adds another loader to the
+ * same cache, such that a cache that pins its classes retains all of them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(5)
+@Warmup(iterations = 0)
+@Measurement(iterations = 5)
+public class ClassCacheUnloadBenchmark {
+
+    @Param({"100", "10000"})
+    private int classes;
+
+    private ClassCache<String>
+        classValue,
+        concurrentHashMap,
+        stripedWeakHashMap,
+        identityTable;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Unloading {
+
+        public long retainedBytes, unloadedClasses;
+
+        private Class<?>[] types;
+
+        private long heap, unloaded;
+
+        @Setup(Level.Invocation)
+        public void setup(BenchmarkParams params) {
+            heap = retained();
+            unloaded = ManagementFactory.getClassLoadingMXBean().getUnloadedClassCount();
+            types = Classes.define(Integer.parseInt(params.getParam("classes")));
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            types = null;
+            retainedBytes = retained() - heap;
+            unloadedClasses = ManagementFactory.getClassLoadingMXBean().getUnloadedClassCount() - unloaded;
+        }
+
+        private static long retained() {
+            for (int i = 0; i < 3; i++) {
+                System.gc();
+            }
+            return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        }
+    }
+
+    @Setup
+    public void setup() {
+        classValue = ClassCaches.classValue(Class::getName);
+        concurrentHashMap = ClassCaches.concurrentHashMap(Class::getName);
+        stripedWeakHashMap = ClassCaches.stripedWeakHashMap(Class::getName, 16);
+        identityTable = ClassCaches.identityTable(Class::getName);
+    }
+
+    @Benchmark
+    public int classValue(Unloading unloading) {
+        return fill(classValue, unloading.types);
+    }
+
+    @Benchmark
+    public int concurrentHashMap(Unloading unloading) {
+        return fill(concurrentHashMap, unloading.types);
+    }
+
+    @Benchmark
+    public int stripedWeakHashMap(Unloading unloading) {
+        return fill(stripedWeakHashMap, unloading.types);
+    }
+
+    @Benchmark
+    public int identityTable(Unloading unloading) {
+        return fill(identityTable, unloading.types);
+    }
+
+    private static int fill(ClassCache<String> cache, Class<?>[] types) {
+        int length = 0;
+        for (Class<?> type : types) {
+            length += cache.get(type).length();
+        }
+        return length;
+    }
+}
@@ -0,0 +1,34 @@
+package benchmark.cache;
+
+import benchmark.access.ClassDefiner;
+import org.objectweb.asm.ClassWriter;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Defines empty classes in a fresh {@link ClassDefiner}, such that they can be unloaded once the definer is
+ * unreachable.
+ */
+final class Classes {
+
+    private Classes() {
+        /* static only */
+    }
+
+    static Class<?>[] define(int count) {
+        ClassDefiner definer = new ClassDefiner(Classes.class.getClassLoader());
+        Class<?>[] classes = new Class<?>[count];
+        for (int i = 0; i < count; i++) {
+            String name = Classes.class.getName() + "$Generated" + i;
+            classes[i] = definer.define(name, () -> emit(name));
+        }
+        return classes;
+    }
+
+    private static byte[] emit(String name) {
+        ClassWriter writer = new ClassWriter(0);
+        writer.visit(V1_8, ACC_PUBLIC | ACC_SUPER, name.replace('.', '/'), null, "java/lang/Object", null);
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+}
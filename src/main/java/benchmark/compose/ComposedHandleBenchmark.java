@@ -0,0 +1,261 @@
+package benchmark.compose;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a pipeline of {@code depth} stages that each read {@link #value}, pass it through {@link #method} if it is
+ * non-negative or {@link #reset} otherwise, and write the result back, like getter, converter and setter
+ * pipelines of mapping frameworks. The members are the primitive ones of the field and invocation benchmarks.
+ * <p>
+ * The fused handles build the converter with {@code insertArguments} and {@code guardWithTest}, wire getter, converter
+ * and setter of each stage with {@code filterArguments}, merge the duplicated receiver with {@code permuteArguments}
+ * and fold all stages into one handle with {@code foldArguments}. The chained variant calls the same three handles per
+ * stage one after another. The static final handles live in one {@link FusedInline} subclass per depth, such that a
+ * fork only builds the pipeline of its own depth and calls it without a branch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ComposedHandleBenchmark {
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    private int depth;
+
+    public int value = 42;
+
+    public int method(int a, int b, int c, int d) {
+        return a + b + c + d;
+    }
+
+    public static boolean isValid(int value) {
+        return value >= 0;
+    }
+
+    public static int reset(int value) {
+        return 0;
+    }
+
+    private MethodHandle
+        getter,
+        converter,
+        setter,
+        fused;
+
+    private FusedInline fusedInline;
+
+    /**
+     * Returns a {@code (ComposedHandleBenchmark, int)int} handle that computes the next value of a stage.
+     */
+    private static MethodHandle converter() throws ReflectiveOperationException {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle method = MethodHandles.insertArguments(lookup.findVirtual(ComposedHandleBenchmark.class, "method",
+                                                                               MethodType.methodType(int.class, int.class, int.class, int.class, int.class)), 2, 2, 3, 4);
+        MethodHandle isValid = MethodHandles.dropArguments(lookup.findStatic(ComposedHandleBenchmark.class, "isValid",
+                                                                             MethodType.methodType(boolean.class, int.class)), 0, ComposedHandleBenchmark.class);
+        MethodHandle reset = MethodHandles.dropArguments(lookup.findStatic(ComposedHandleBenchmark.class, "reset",
+                                                                           MethodType.methodType(int.class, int.class)), 0, ComposedHandleBenchmark.class);
+        return MethodHandles.guardWithTest(isValid, method, reset);
+    }
+
+    /**
+     * Returns a {@code (ComposedHandleBenchmark)void} handle that runs {@code depth} stages in order.
+     */
+    static MethodHandle fuse(int depth) throws ReflectiveOperationException {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle getter = lookup.findGetter(ComposedHandleBenchmark.class, "value", int.class);
+        MethodHandle setter = lookup.findSetter(ComposedHandleBenchmark.class, "value", int.class);
+
+        MethodHandle compute = MethodHandles.permuteArguments(
+            MethodHandles.filterArguments(converter(), 1, getter),
+            MethodType.methodType(int.class, ComposedHandleBenchmark.class), 0, 0);
+        MethodHandle stage = MethodHandles.permuteArguments(
+            MethodHandles.filterArguments(setter, 1, compute),
+            MethodType.methodType(void.class, ComposedHandleBenchmark.class), 0, 0);
+
+        MethodHandle pipeline = stage;
+        for (int i = 1; i < depth; i++) {
+            pipeline = MethodHandles.foldArguments(pipeline, stage);
+        }
+        return pipeline;
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        getter = MethodHandles.lookup().findGetter(ComposedHandleBenchmark.class, "value", int.class);
+        converter = converter();
+        setter = MethodHandles.lookup().findSetter(ComposedHandleBenchmark.class, "value", int.class);
+        fused = fuse(depth);
+        fusedInline = FusedInline.of(depth);
+    }
+
+    @Benchmark
+    public int normal() {
+        for (int i = 0; i < depth; i++) {
+            int current = value;
+            value = isValid(current) ? method(current, 2, 3, 4) : reset(current);
+        }
+        return value;
+    }
+
+    @Benchmark
+    public int chained() throws Throwable {
+        for (int i = 0; i < depth; i++) {
+            int current = (int) getter.invokeExact(this);
+            setter.invokeExact(this, (int) converter.invokeExact(this, current));
+        }
+        return value;
+    }
+
+    @Benchmark
+    public int fused() throws Throwable {
+        fused.invokeExact(this);
+        return value;
+    }
+
+    @Benchmark
+    public int fusedInline() throws Throwable {
+        fusedInline.invoke(this);
+        return value;
+    }
+
+    /**
+     * Invokes the fused pipeline of a fixed depth from a static final field. Every depth is its own subclass since a
+     * constant handle cannot be chosen by a parameter without a branch in the measured code.
+     */
+    abstract static class FusedInline {
+
+        abstract void invoke(ComposedHandleBenchmark target) throws Throwable;
+
+        static FusedInline of(int depth) {
+            switch (depth) {
+                case 1:
+                    return new Depth1();
+                case 2:
+                    return new Depth2();
+                case 4:
+                    return new Depth4();
+                case 8:
+                    return new Depth8();
+                case 16:
+                    return new Depth16();
+                case 32:
+                    return new Depth32();
+                default:
+                    throw new IllegalArgumentException("Unsupported depth " + depth);
+            }
+        }
+    }
+
+    static final class Depth1 extends FusedInline {
+
+        private static final MethodHandle FUSED_INLINE;
+
+        static {
+            try {
+                FUSED_INLINE = fuse(1);
+            } catch (Exception e) {
+                throw new AssertionError();
+            }
+        }
+
+        @Override
+        void invoke(ComposedHandleBenchmark target) throws Throwable {
+            FUSED_INLINE.invokeExact(target);
+        }
+    }
+
+    static final class Depth2 extends FusedInline {
+
+        private static final MethodHandle FUSED_INLINE;
+
+        static {
+            try {
+                FUSED_INLINE = fuse(2);
+            } catch (Exception e) {
+                throw new AssertionError();
+            }
+        }
+
+        @Override
+        void invoke(ComposedHandleBenchmark target) throws Throwable {
+            FUSED_INLINE.invokeExact(target);
+        }
+    }
+
+    static final class Depth4 extends FusedInline {
+
+        private static final MethodHandle FUSED_INLINE;
+
+        static {
+            try {
+                FUSED_INLINE = fuse(4);
+            } catch (Exception e) {
+                throw new AssertionError();
+            }
+        }
+
+        @Override
+        void invoke(ComposedHandleBenchmark target) throws Throwable {
+            FUSED_INLINE.invokeExact(target);
+        }
+    }
+
+    static final class Depth8 extends FusedInline {
+
+        private static final MethodHandle FUSED_INLINE;
+
+        static {
+            try {
+                FUSED_INLINE = fuse(8);
+            } catch (Exception e) {
+                throw new AssertionError();
+            }
+        }
+
+        @Override
+        void invoke(ComposedHandleBenchmark target) throws Throwable {
+            FUSED_INLINE.invokeExact(target);
+        }
+    }
+
+    static final class Depth16 extends FusedInline {
+
+        private static final MethodHandle FUSED_INLINE;
+
+        static {
+            try {
+                FUSED_INLINE = fuse(16);
+            } catch (Exception e) {
+                throw new AssertionError();
+            }
+        }
+
+        @Override
+        void invoke(ComposedHandleBenchmark target) throws Throwable {
+            FUSED_INLINE.invokeExact(target);
+        }
+    }
+
+    static final class Depth32 extends FusedInline {
+
+        private static final MethodHandle FUSED_INLINE;
+
+        static {
+            try {
+                FUSED_INLINE = fuse(32);
+            } catch (Exception e) {
+                throw new AssertionError();
+            }
+        }
+
+        @Override
+        void invoke(ComposedHandleBenchmark target) throws Throwable {
+            FUSED_INLINE.invokeExact(target);
+        }
+    }
+}
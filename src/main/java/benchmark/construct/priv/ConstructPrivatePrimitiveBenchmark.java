@@ -0,0 +1,349 @@
+package benchmark.construct.priv;
+
+import benchmark.access.AccessorGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Creates a value through a constructor with {@code arity} arguments. Every arity is its own {@link Factory} such
+ * that the measured method is a single call: each fork only ever sees one factory, so the call into it is monomorphic
+ * and costs the same for every strategy, and no arity shares a profile with another.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConstructPrivatePrimitiveBenchmark {
+
+    @Param({"0", "1", "4"})
+    private int arity;
+
+    private Factory factory;
+
+    private static class Value {
+
+        int a, b, c, d;
+
+        private Value() {
+            /* empty */
+        }
+
+        private Value(int a) {
+            this.a = a;
+        }
+
+        private Value(int a, int b, int c, int d) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+        }
+    }
+
+    @FunctionalInterface
+    interface CustomFactory {
+        Value create(int a, int b, int c, int d);
+    }
+
+    @Setup
+    public void setup() throws Throwable {
+        factory = Factory.of(arity);
+    }
+
+    @Benchmark
+    public Object normal() throws Exception {
+        return factory.normal();
+    }
+
+    @Benchmark
+    public Object reflectionAccessible() throws Exception {
+        return factory.reflectionAccessible();
+    }
+
+    @Benchmark
+    public Object handleUnreflected() throws Throwable {
+        return factory.handleUnreflected();
+    }
+
+    @Benchmark
+    public Object handleUnreflectedExact() throws Throwable {
+        return factory.handleUnreflectedExact();
+    }
+
+    @Benchmark
+    public Object handleUnreflectedInline() throws Throwable {
+        return factory.handleUnreflectedInline();
+    }
+
+    @Benchmark
+    public Object handleUnreflectedExactInline() throws Throwable {
+        return factory.handleUnreflectedExactInline();
+    }
+
+    @Benchmark
+    public Object generated() throws Throwable {
+        return factory.generated();
+    }
+
+    @Benchmark
+    public Object generatedInline() throws Throwable {
+        return factory.generatedInline();
+    }
+
+    /**
+     * Calls a constructor of a fixed arity with each strategy. Every arity is its own subclass with its own functional
+     * interface since neither {@code invokeExact} nor a lambda can abstract over the number of arguments.
+     */
+    abstract static class Factory {
+
+        abstract Object normal() throws Exception;
+
+        abstract Object reflectionAccessible() throws Exception;
+
+        abstract Object handleUnreflected() throws Throwable;
+
+        abstract Object handleUnreflectedExact() throws Throwable;
+
+        abstract Object handleUnreflectedInline() throws Throwable;
+
+        abstract Object handleUnreflectedExactInline() throws Throwable;
+
+        abstract Object generated() throws Throwable;
+
+        abstract Object generatedInline() throws Throwable;
+
+        static Factory of(int arity) throws Throwable {
+            switch (arity) {
+                case 0:
+                    return new Arity0();
+                case 1:
+                    return new Arity1();
+                case 4:
+                    return new Arity4();
+                default:
+                    throw new IllegalArgumentException("Unsupported arity " + arity);
+            }
+        }
+    }
+
+    static final class Arity0 extends Factory {
+
+        private final Constructor<Value> constructorAccessible;
+
+        private final MethodHandle methodHandleUnreflected;
+
+        private final Supplier<Value> generated;
+
+        private static final MethodHandle METHOD_HANDLE_UNREFLECTED_INLINE;
+
+        private static final Supplier<Value> GENERATED_INLINE;
+
+        static {
+            try {
+                Constructor<Value> constructorAccessible = Value.class.getDeclaredConstructor();
+                constructorAccessible.setAccessible(true);
+                METHOD_HANDLE_UNREFLECTED_INLINE = MethodHandles.lookup().unreflectConstructor(constructorAccessible);
+                GENERATED_INLINE = AccessorGenerator.constructor(MethodHandles.lookup(), Supplier.class, constructorAccessible);
+            } catch (Exception e) {
+                throw new AssertionError();
+            }
+        }
+
+        Arity0() throws Throwable {
+            constructorAccessible = Value.class.getDeclaredConstructor();
+            constructorAccessible.setAccessible(true);
+            methodHandleUnreflected = MethodHandles.lookup().unreflectConstructor(constructorAccessible);
+            generated = AccessorGenerator.constructor(MethodHandles.lookup(), Supplier.class, constructorAccessible);
+        }
+
+        @Override
+        Object normal() throws Exception {
+            return new Value(); // accessor constructor
+        }
+
+        @Override
+        Object reflectionAccessible() throws Exception {
+            return constructorAccessible.newInstance();
+        }
+
+        @Override
+        Object handleUnreflected() throws Throwable {
+            return methodHandleUnreflected.invoke();
+        }
+
+        @Override
+        Object handleUnreflectedExact() throws Throwable {
+            return (Value) methodHandleUnreflected.invokeExact();
+        }
+
+        @Override
+        Object handleUnreflectedInline() throws Throwable {
+            return METHOD_HANDLE_UNREFLECTED_INLINE.invoke();
+        }
+
+        @Override
+        Object handleUnreflectedExactInline() throws Throwable {
+            return (Value) METHOD_HANDLE_UNREFLECTED_INLINE.invokeExact();
+        }
+
+        @Override
+        Object generated() throws Throwable {
+            return generated.get();
+        }
+
+        @Override
+        Object generatedInline() throws Throwable {
+            return GENERATED_INLINE.get();
+        }
+    }
+
+    static final class Arity1 extends Factory {
+
+        private int i1 = 1;
+
+        private final Constructor<Value> constructorAccessible;
+
+        private final MethodHandle methodHandleUnreflected;
+
+        private final IntFunction<Value> generated;
+
+        private static final MethodHandle METHOD_HANDLE_UNREFLECTED_INLINE;
+
+        private static final IntFunction<Value> GENERATED_INLINE;
+
+        static {
+            try {
+                Constructor<Value> constructorAccessible = Value.class.getDeclaredConstructor(int.class);
+                constructorAccessible.setAccessible(true);
+                METHOD_HANDLE_UNREFLECTED_INLINE = MethodHandles.lookup().unreflectConstructor(constructorAccessible);
+                GENERATED_INLINE = AccessorGenerator.constructor(MethodHandles.lookup(), IntFunction.class, constructorAccessible);
+            } catch (Exception e) {
+                throw new AssertionError();
+            }
+        }
+
+        Arity1() throws Throwable {
+            constructorAccessible = Value.class.getDeclaredConstructor(int.class);
+            constructorAccessible.setAccessible(true);
+            methodHandleUnreflected = MethodHandles.lookup().unreflectConstructor(constructorAccessible);
+            generated = AccessorGenerator.constructor(MethodHandles.lookup(), IntFunction.class, constructorAccessible);
+        }
+
+        @Override
+        Object normal() throws Exception {
+            return new Value(i1); // accessor constructor
+        }
+
+        @Override
+        Object reflectionAccessible() throws Exception {
+            return constructorAccessible.newInstance(i1);
+        }
+
+        @Override
+        Object handleUnreflected() throws Throwable {
+            return methodHandleUnreflected.invoke(i1);
+        }
+
+        @Override
+        Object handleUnreflectedExact() throws Throwable {
+            return (Value) methodHandleUnreflected.invokeExact(i1);
+        }
+
+        @Override
+        Object handleUnreflectedInline() throws Throwable {
+            return METHOD_HANDLE_UNREFLECTED_INLINE.invoke(i1);
+        }
+
+        @Override
+        Object handleUnreflectedExactInline() throws Throwable {
+            return (Value) METHOD_HANDLE_UNREFLECTED_INLINE.invokeExact(i1);
+        }
+
+        @Override
+        Object generated() throws Throwable {
+            return generated.apply(i1);
+        }
+
+        @Override
+        Object generatedInline() throws Throwable {
+            return GENERATED_INLINE.apply(i1);
+        }
+    }
+
+    static final class Arity4 extends Factory {
+
+        private int i1 = 1, i2 = 2, i3 = 3, i4 = 4;
+
+        private final Constructor<Value> constructorAccessible;
+
+        private final MethodHandle methodHandleUnreflected;
+
+        private final CustomFactory generated;
+
+        private static final MethodHandle METHOD_HANDLE_UNREFLECTED_INLINE;
+
+        private static final CustomFactory GENERATED_INLINE;
+
+        static {
+            try {
+                Constructor<Value> constructorAccessible = Value.class.getDeclaredConstructor(int.class, int.class, int.class, int.class);
+                constructorAccessible.setAccessible(true);
+                METHOD_HANDLE_UNREFLECTED_INLINE = MethodHandles.lookup().unreflectConstructor(constructorAccessible);
+                GENERATED_INLINE = AccessorGenerator.constructor(MethodHandles.lookup(), CustomFactory.class, constructorAccessible);
+            } catch (Exception e) {
+                throw new AssertionError();
+            }
+        }
+
+        Arity4() throws Throwable {
+            constructorAccessible = Value.class.getDeclaredConstructor(int.class, int.class, int.class, int.class);
+            constructorAccessible.setAccessible(true);
+            methodHandleUnreflected = MethodHandles.lookup().unreflectConstructor(constructorAccessible);
+            generated = AccessorGenerator.constructor(MethodHandles.lookup(), CustomFactory.class, constructorAccessible);
+        }
+
+        @Override
+        Object normal() throws Exception {
+            return new Value(i1, i2, i3, i4); // accessor constructor
+        }
+
+        @Override
+        Object reflectionAccessible() throws Exception {
+            return constructorAccessible.newInstance(i1, i2, i3, i4);
+        }
+
+        @Override
+        Object handleUnreflected() throws Throwable {
+            return methodHandleUnreflected.invoke(i1, i2, i3, i4);
+        }
+
+        @Override
+        Object handleUnreflectedExact() throws Throwable {
+            return (Value) methodHandleUnreflected.invokeExact(i1, i2, i3, i4);
+        }
+
+        @Override
+        Object handleUnreflectedInline() throws Throwable {
+            return METHOD_HANDLE_UNREFLECTED_INLINE.invoke(i1, i2, i3, i4);
+        }
+
+        @Override
+        Object handleUnreflectedExactInline() throws Throwable {
+            return (Value) METHOD_HANDLE_UNREFLECTED_INLINE.invokeExact(i1, i2, i3, i4);
+        }
+
+        @Override
+        Object generated() throws Throwable {
+            return generated.create(i1, i2, i3, i4);
+        }
+
+        @Override
+        Object generatedInline() throws Throwable {
+            return GENERATED_INLINE.create(i1, i2, i3, i4);
+        }
+    }
+}
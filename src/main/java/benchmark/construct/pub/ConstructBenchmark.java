@@ -0,0 +1,466 @@
+package benchmark.construct.pub;
+
+import benchmark.access.AccessorGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Creates a value through a constructor with {@code arity} arguments. Every arity is its own {@link Factory} such
+ * that the measured method is a single call: each fork only ever sees one factory, so the call into it is monomorphic
+ * and costs the same for every strategy, and no arity shares a profile with another.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConstructBenchmark {
+
+    @Param({"0", "1", "4"})
+    private int arity;
+
+    private Factory factory;
+
+    public static class Value {
+
+        public String a, b, c, d;
+
+        public Value() {
+            /* empty */
+        }
+
+        public Value(String a) {
+            this.a = a;
+        }
+
+        public Value(String a, String b, String c, String d) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+        }
+    }
+
+    @FunctionalInterface
+    interface CustomFactory {
+        Value create(String a, String b, String c, String d);
+    }
+
+    @Setup
+    public void setup() throws Throwable {
+        factory = Factory.of(arity);
+    }
+
+    @Benchmark
+    public Object normal() throws Exception {
+        return factory.normal();
+    }
+
+    @Benchmark
+    public Object reflection() throws Exception {
+        return factory.reflection();
+    }
+
+    @Benchmark
+    public Object reflectionAccessible() throws Exception {
+        return factory.reflectionAccessible();
+    }
+
+    @Benchmark
+    public Object handle() throws Throwable {
+        return factory.handle();
+    }
+
+    @Benchmark
+    public Object handleExact() throws Throwable {
+        return factory.handleExact();
+    }
+
+    @Benchmark
+    public Object handleUnreflected() throws Throwable {
+        return factory.handleUnreflected();
+    }
+
+    @Benchmark
+    public Object handleInline() throws Throwable {
+        return factory.handleInline();
+    }
+
+    @Benchmark
+    public Object handleExactInline() throws Throwable {
+        return factory.handleExactInline();
+    }
+
+    @Benchmark
+    public Object lambda() throws Throwable {
+        return factory.lambda();
+    }
+
+    @Benchmark
+    public Object generated() throws Throwable {
+        return factory.generated();
+    }
+
+    @Benchmark
+    public Object generatedInline() throws Throwable {
+        return factory.generatedInline();
+    }
+
+    /**
+     * Calls a constructor of a fixed arity with each strategy. Every arity is its own subclass with its own functional
+     * interface since neither {@code invokeExact} nor a lambda can abstract over the number of arguments.
+     */
+    abstract static class Factory {
+
+        abstract Object normal() throws Exception;
+
+        abstract Object reflection() throws Exception;
+
+        abstract Object reflectionAccessible() throws Exception;
+
+        abstract Object handle() throws Throwable;
+
+        abstract Object handleExact() throws Throwable;
+
+        abstract Object handleUnreflected() throws Throwable;
+
+        abstract Object handleInline() throws Throwable;
+
+        abstract Object handleExactInline() throws Throwable;
+
+        abstract Object lambda() throws Throwable;
+
+        abstract Object generated() throws Throwable;
+
+        abstract Object generatedInline() throws Throwable;
+
+        static Factory of(int arity) throws Throwable {
+            switch (arity) {
+                case 0:
+                    return new Arity0();
+                case 1:
+                    return new Arity1();
+                case 4:
+                    return new Arity4();
+                default:
+                    throw new IllegalArgumentException("Unsupported arity " + arity);
+            }
+        }
+    }
+
+    static final class Arity0 extends Factory {
+
+        private final Constructor<Value>
+            constructor,
+            constructorAccessible;
+
+        private final MethodHandle
+            methodHandle,
+            methodHandleUnreflected;
+
+        private final Supplier<Value>
+            lambda,
+            generated;
+
+        private static final MethodHandle METHOD_HANDLE_INLINE;
+
+        private static final Supplier<Value> GENERATED_INLINE;
+
+        static {
+            try {
+                Constructor<Value> constructorAccessible = Value.class.getDeclaredConstructor();
+                constructorAccessible.setAccessible(true);
+                METHOD_HANDLE_INLINE = MethodHandles.lookup().findConstructor(Value.class, MethodType.methodType(void.class));
+                GENERATED_INLINE = AccessorGenerator.constructor(MethodHandles.lookup(), Supplier.class, constructorAccessible);
+            } catch (Exception e) {
+                throw new AssertionError();
+            }
+        }
+
+        Arity0() throws Throwable {
+            constructor = Value.class.getDeclaredConstructor();
+            constructorAccessible = Value.class.getDeclaredConstructor();
+            constructorAccessible.setAccessible(true);
+            methodHandle = MethodHandles.lookup().findConstructor(Value.class, MethodType.methodType(void.class));
+            methodHandleUnreflected = MethodHandles.lookup().unreflectConstructor(constructorAccessible);
+
+            CallSite lambdaSite = LambdaMetafactory.metafactory(
+                MethodHandles.lookup(),
+                "get",
+                MethodType.methodType(Supplier.class),
+                MethodType.methodType(Object.class),
+                methodHandle,
+                MethodType.methodType(Value.class));
+            lambda = (Supplier<Value>) lambdaSite.getTarget().invokeExact();
+            generated = AccessorGenerator.constructor(MethodHandles.lookup(), Supplier.class, constructorAccessible);
+        }
+
+        @Override
+        Object normal() throws Exception {
+            return new Value();
+        }
+
+        @Override
+        Object reflection() throws Exception {
+            return constructor.newInstance();
+        }
+
+        @Override
+        Object reflectionAccessible() throws Exception {
+            return constructorAccessible.newInstance();
+        }
+
+        @Override
+        Object handle() throws Throwable {
+            return methodHandle.invoke();
+        }
+
+        @Override
+        Object handleExact() throws Throwable {
+            return (Value) methodHandle.invokeExact();
+        }
+
+        @Override
+        Object handleUnreflected() throws Throwable {
+            return methodHandleUnreflected.invoke();
+        }
+
+        @Override
+        Object handleInline() throws Throwable {
+            return METHOD_HANDLE_INLINE.invoke();
+        }
+
+        @Override
+        Object handleExactInline() throws Throwable {
+            return (Value) METHOD_HANDLE_INLINE.invokeExact();
+        }
+
+        @Override
+        Object lambda() throws Throwable {
+            return lambda.get();
+        }
+
+        @Override
+        Object generated() throws Throwable {
+            return generated.get();
+        }
+
+        @Override
+        Object generatedInline() throws Throwable {
+            return GENERATED_INLINE.get();
+        }
+    }
+
+    static final class Arity1 extends Factory {
+
+        private String s1 = "foo";
+
+        private final Constructor<Value>
+            constructor,
+            constructorAccessible;
+
+        private final MethodHandle
+            methodHandle,
+            methodHandleUnreflected;
+
+        private final Function<String, Value>
+            lambda,
+            generated;
+
+        private static final MethodHandle METHOD_HANDLE_INLINE;
+
+        private static final Function<String, Value> GENERATED_INLINE;
+
+        static {
+            try {
+                Constructor<Value> constructorAccessible = Value.class.getDeclaredConstructor(String.class);
+                constructorAccessible.setAccessible(true);
+                METHOD_HANDLE_INLINE = MethodHandles.lookup().findConstructor(Value.class, MethodType.methodType(void.class, String.class));
+                GENERATED_INLINE = AccessorGenerator.constructor(MethodHandles.lookup(), Function.class, constructorAccessible);
+            } catch (Exception e) {
+                throw new AssertionError();
+            }
+        }
+
+        Arity1() throws Throwable {
+            constructor = Value.class.getDeclaredConstructor(String.class);
+            constructorAccessible = Value.class.getDeclaredConstructor(String.class);
+            constructorAccessible.setAccessible(true);
+            methodHandle = MethodHandles.lookup().findConstructor(Value.class, MethodType.methodType(void.class, String.class));
+            methodHandleUnreflected = MethodHandles.lookup().unreflectConstructor(constructorAccessible);
+
+            CallSite lambdaSite = LambdaMetafactory.metafactory(
+                MethodHandles.lookup(),
+                "apply",
+                MethodType.methodType(Function.class),
+                MethodType.methodType(Object.class, Object.class),
+                methodHandle,
+                MethodType.methodType(Value.class, String.class));
+            lambda = (Function<String, Value>) lambdaSite.getTarget().invokeExact();
+            generated = AccessorGenerator.constructor(MethodHandles.lookup(), Function.class, constructorAccessible);
+        }
+
+        @Override
+        Object normal() throws Exception {
+            return new Value(s1);
+        }
+
+        @Override
+        Object reflection() throws Exception {
+            return constructor.newInstance(s1);
+        }
+
+        @Override
+        Object reflectionAccessible() throws Exception {
+            return constructorAccessible.newInstance(s1);
+        }
+
+        @Override
+        Object handle() throws Throwable {
+            return methodHandle.invoke(s1);
+        }
+
+        @Override
+        Object handleExact() throws Throwable {
+            return (Value) methodHandle.invokeExact(s1);
+        }
+
+        @Override
+        Object handleUnreflected() throws Throwable {
+            return methodHandleUnreflected.invoke(s1);
+        }
+
+        @Override
+        Object handleInline() throws Throwable {
+            return METHOD_HANDLE_INLINE.invoke(s1);
+        }
+
+        @Override
+        Object handleExactInline() throws Throwable {
+            return (Value) METHOD_HANDLE_INLINE.invokeExact(s1);
+        }
+
+        @Override
+        Object lambda() throws Throwable {
+            return lambda.apply(s1);
+        }
+
+        @Override
+        Object generated() throws Throwable {
+            return generated.apply(s1);
+        }
+
+        @Override
+        Object generatedInline() throws Throwable {
+            return GENERATED_INLINE.apply(s1);
+        }
+    }
+
+    static final class Arity4 extends Factory {
+
+        private String s1 = "foo", s2 = "bar", s3 = "qux", s4 = "baz";
+
+        private final Constructor<Value>
+            constructor,
+            constructorAccessible;
+
+        private final MethodHandle
+            methodHandle,
+            methodHandleUnreflected;
+
+        private final CustomFactory
+            lambda,
+            generated;
+
+        private static final MethodHandle METHOD_HANDLE_INLINE;
+
+        private static final CustomFactory GENERATED_INLINE;
+
+        static {
+            try {
+                Constructor<Value> constructorAccessible = Value.class.getDeclaredConstructor(String.class, String.class, String.class, String.class);
+                constructorAccessible.setAccessible(true);
+                METHOD_HANDLE_INLINE = MethodHandles.lookup().findConstructor(Value.class, MethodType.methodType(void.class, String.class, String.class, String.class, String.class));
+                GENERATED_INLINE = AccessorGenerator.constructor(MethodHandles.lookup(), CustomFactory.class, constructorAccessible);
+            } catch (Exception e) {
+                throw new AssertionError();
+            }
+        }
+
+        Arity4() throws Throwable {
+            constructor = Value.class.getDeclaredConstructor(String.class, String.class, String.class, String.class);
+            constructorAccessible = Value.class.getDeclaredConstructor(String.class, String.class, String.class, String.class);
+            constructorAccessible.setAccessible(true);
+            methodHandle = MethodHandles.lookup().findConstructor(Value.class, MethodType.methodType(void.class, String.class, String.class, String.class, String.class));
+            methodHandleUnreflected = MethodHandles.lookup().unreflectConstructor(constructorAccessible);
+
+            CallSite lambdaSite = LambdaMetafactory.metafactory(
+                MethodHandles.lookup(),
+                "create",
+                MethodType.methodType(CustomFactory.class),
+                MethodType.methodType(Value.class, String.class, String.class, String.class, String.class),
+                methodHandle,
+                MethodType.methodType(Value.class, String.class, String.class, String.class, String.class));
+            lambda = (CustomFactory) lambdaSite.getTarget().invokeExact();
+            generated = AccessorGenerator.constructor(MethodHandles.lookup(), CustomFactory.class, constructorAccessible);
+        }
+
+        @Override
+        Object normal() throws Exception {
+            return new Value(s1, s2, s3, s4);
+        }
+
+        @Override
+        Object reflection() throws Exception {
+            return constructor.newInstance(s1, s2, s3, s4);
+        }
+
+        @Override
+        Object reflectionAccessible() throws Exception {
+            return constructorAccessible.newInstance(s1, s2, s3, s4);
+        }
+
+        @Override
+        Object handle() throws Throwable {
+            return methodHandle.invoke(s1, s2, s3, s4);
+        }
+
+        @Override
+        Object handleExact() throws Throwable {
+            return (Value) methodHandle.invokeExact(s1, s2, s3, s4);
+        }
+
+        @Override
+        Object handleUnreflected() throws Throwable {
+            return methodHandleUnreflected.invoke(s1, s2, s3, s4);
+        }
+
+        @Override
+        Object handleInline() throws Throwable {
+            return METHOD_HANDLE_INLINE.invoke(s1, s2, s3, s4);
+        }
+
+        @Override
+        Object handleExactInline() throws Throwable {
+            return (Value) METHOD_HANDLE_INLINE.invokeExact(s1, s2, s3, s4);
+        }
+
+        @Override
+        Object lambda() throws Throwable {
+            return lambda.create(s1, s2, s3, s4);
+        }
+
+        @Override
+        Object generated() throws Throwable {
+            return generated.create(s1, s2, s3, s4);
+        }
+
+        @Override
+        Object generatedInline() throws Throwable {
+            return GENERATED_INLINE.create(s1, s2, s3, s4);
+        }
+    }
+}
@@ -0,0 +1,466 @@
+package benchmark.construct.pub;
+
+import benchmark.access.AccessorGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Creates a value through a constructor with {@code arity} arguments. Every arity is its own {@link Factory} such
+ * that the measured method is a single call: each fork only ever sees one factory, so the call into it is monomorphic
+ * and costs the same for every strategy, and no arity shares a profile with another.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConstructPrimitiveBenchmark {
+
+    @Param({"0", "1", "4"})
+    private int arity;
+
+    private Factory factory;
+
+    public static class Value {
+
+        public int a, b, c, d;
+
+        public Value() {
+            /* empty */
+        }
+
+        public Value(int a) {
+            this.a = a;
+        }
+
+        public Value(int a, int b, int c, int d) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+        }
+    }
+
+    @FunctionalInterface
+    interface CustomFactory {
+        Value create(int a, int b, int c, int d);
+    }
+
+    @Setup
+    public void setup() throws Throwable {
+        factory = Factory.of(arity);
+    }
+
+    @Benchmark
+    public Object normal() throws Exception {
+        return factory.normal();
+    }
+
+    @Benchmark
+    public Object reflection() throws Exception {
+        return factory.reflection();
+    }
+
+    @Benchmark
+    public Object reflectionAccessible() throws Exception {
+        return factory.reflectionAccessible();
+    }
+
+    @Benchmark
+    public Object handle() throws Throwable {
+        return factory.handle();
+    }
+
+    @Benchmark
+    public Object handleExact() throws Throwable {
+        return factory.handleExact();
+    }
+
+    @Benchmark
+    public Object handleUnreflected() throws Throwable {
+        return factory.handleUnreflected();
+    }
+
+    @Benchmark
+    public Object handleInline() throws Throwable {
+        return factory.handleInline();
+    }
+
+    @Benchmark
+    public Object handleExactInline() throws Throwable {
+        return factory.handleExactInline();
+    }
+
+    @Benchmark
+    public Object lambda() throws Throwable {
+        return factory.lambda();
+    }
+
+    @Benchmark
+    public Object generated() throws Throwable {
+        return factory.generated();
+    }
+
+    @Benchmark
+    public Object generatedInline() throws Throwable {
+        return factory.generatedInline();
+    }
+
+    /**
+     * Calls a constructor of a fixed arity with each strategy. Every arity is its own subclass with its own functional
+     * interface since neither {@code invokeExact} nor a lambda can abstract over the number of arguments.
+     */
+    abstract static class Factory {
+
+        abstract Object normal() throws Exception;
+
+        abstract Object reflection() throws Exception;
+
+        abstract Object reflectionAccessible() throws Exception;
+
+        abstract Object handle() throws Throwable;
+
+        abstract Object handleExact() throws Throwable;
+
+        abstract Object handleUnreflected() throws Throwable;
+
+        abstract Object handleInline() throws Throwable;
+
+        abstract Object handleExactInline() throws Throwable;
+
+        abstract Object lambda() throws Throwable;
+
+        abstract Object generated() throws Throwable;
+
+        abstract Object generatedInline() throws Throwable;
+
+        static Factory of(int arity) throws Throwable {
+            switch (arity) {
+                case 0:
+                    return new Arity0();
+                case 1:
+                    return new Arity1();
+                case 4:
+                    return new Arity4();
+                default:
+                    throw new IllegalArgumentException("Unsupported arity " + arity);
+            }
+        }
+    }
+
+    static final class Arity0 extends Factory {
+
+        private final Constructor<Value>
+            constructor,
+            constructorAccessible;
+
+        private final MethodHandle
+            methodHandle,
+            methodHandleUnreflected;
+
+        private final Supplier<Value>
+            lambda,
+            generated;
+
+        private static final MethodHandle METHOD_HANDLE_INLINE;
+
+        private static final Supplier<Value> GENERATED_INLINE;
+
+        static {
+            try {
+                Constructor<Value> constructorAccessible = Value.class.getDeclaredConstructor();
+                constructorAccessible.setAccessible(true);
+                METHOD_HANDLE_INLINE = MethodHandles.lookup().findConstructor(Value.class, MethodType.methodType(void.class));
+                GENERATED_INLINE = AccessorGenerator.constructor(MethodHandles.lookup(), Supplier.class, constructorAccessible);
+            } catch (Exception e) {
+                throw new AssertionError();
+            }
+        }
+
+        Arity0() throws Throwable {
+            constructor = Value.class.getDeclaredConstructor();
+            constructorAccessible = Value.class.getDeclaredConstructor();
+            constructorAccessible.setAccessible(true);
+            methodHandle = MethodHandles.lookup().findConstructor(Value.class, MethodType.methodType(void.class));
+            methodHandleUnreflected = MethodHandles.lookup().unreflectConstructor(constructorAccessible);
+
+            CallSite lambdaSite = LambdaMetafactory.metafactory(
+                MethodHandles.lookup(),
+                "get",
+                MethodType.methodType(Supplier.class),
+                MethodType.methodType(Object.class),
+                methodHandle,
+                MethodType.methodType(Value.class));
+            lambda = (Supplier<Value>) lambdaSite.getTarget().invokeExact();
+            generated = AccessorGenerator.constructor(MethodHandles.lookup(), Supplier.class, constructorAccessible);
+        }
+
+        @Override
+        Object normal() throws Exception {
+            return new Value();
+        }
+
+        @Override
+        Object reflection() throws Exception {
+            return constructor.newInstance();
+        }
+
+        @Override
+        Object reflectionAccessible() throws Exception {
+            return constructorAccessible.newInstance();
+        }
+
+        @Override
+        Object handle() throws Throwable {
+            return methodHandle.invoke();
+        }
+
+        @Override
+        Object handleExact() throws Throwable {
+            return (Value) methodHandle.invokeExact();
+        }
+
+        @Override
+        Object handleUnreflected() throws Throwable {
+            return methodHandleUnreflected.invoke();
+        }
+
+        @Override
+        Object handleInline() throws Throwable {
+            return METHOD_HANDLE_INLINE.invoke();
+        }
+
+        @Override
+        Object handleExactInline() throws Throwable {
+            return (Value) METHOD_HANDLE_INLINE.invokeExact();
+        }
+
+        @Override
+        Object lambda() throws Throwable {
+            return lambda.get();
+        }
+
+        @Override
+        Object generated() throws Throwable {
+            return generated.get();
+        }
+
+        @Override
+        Object generatedInline() throws Throwable {
+            return GENERATED_INLINE.get();
+        }
+    }
+
+    static final class Arity1 extends Factory {
+
+        private int i1 = 1;
+
+        private final Constructor<Value>
+            constructor,
+            constructorAccessible;
+
+        private final MethodHandle
+            methodHandle,
+            methodHandleUnreflected;
+
+        private final IntFunction<Value>
+            lambda,
+            generated;
+
+        private static final MethodHandle METHOD_HANDLE_INLINE;
+
+        private static final IntFunction<Value> GENERATED_INLINE;
+
+        static {
+            try {
+                Constructor<Value> constructorAccessible = Value.class.getDeclaredConstructor(int.class);
+                constructorAccessible.setAccessible(true);
+                METHOD_HANDLE_INLINE = MethodHandles.lookup().findConstructor(Value.class, MethodType.methodType(void.class, int.class));
+                GENERATED_INLINE = AccessorGenerator.constructor(MethodHandles.lookup(), IntFunction.class, constructorAccessible);
+            } catch (Exception e) {
+                throw new AssertionError();
+            }
+        }
+
+        Arity1() throws Throwable {
+            constructor = Value.class.getDeclaredConstructor(int.class);
+            constructorAccessible = Value.class.getDeclaredConstructor(int.class);
+            constructorAccessible.setAccessible(true);
+            methodHandle = MethodHandles.lookup().findConstructor(Value.class, MethodType.methodType(void.class, int.class));
+            methodHandleUnreflected = MethodHandles.lookup().unreflectConstructor(constructorAccessible);
+
+            CallSite lambdaSite = LambdaMetafactory.metafactory(
+                MethodHandles.lookup(),
+                "apply",
+                MethodType.methodType(IntFunction.class),
+                MethodType.methodType(Object.class, int.class),
+                methodHandle,
+                MethodType.methodType(Value.class, int.class));
+            lambda = (IntFunction<Value>) lambdaSite.getTarget().invokeExact();
+            generated = AccessorGenerator.constructor(MethodHandles.lookup(), IntFunction.class, constructorAccessible);
+        }
+
+        @Override
+        Object normal() throws Exception {
+            return new Value(i1);
+        }
+
+        @Override
+        Object reflection() throws Exception {
+            return constructor.newInstance(i1);
+        }
+
+        @Override
+        Object reflectionAccessible() throws Exception {
+            return constructorAccessible.newInstance(i1);
+        }
+
+        @Override
+        Object handle() throws Throwable {
+            return methodHandle.invoke(i1);
+        }
+
+        @Override
+        Object handleExact() throws Throwable {
+            return (Value) methodHandle.invokeExact(i1);
+        }
+
+        @Override
+        Object handleUnreflected() throws Throwable {
+            return methodHandleUnreflected.invoke(i1);
+        }
+
+        @Override
+        Object handleInline() throws Throwable {
+            return METHOD_HANDLE_INLINE.invoke(i1);
+        }
+
+        @Override
+        Object handleExactInline() throws Throwable {
+            return (Value) METHOD_HANDLE_INLINE.invokeExact(i1);
+        }
+
+        @Override
+        Object lambda() throws Throwable {
+            return lambda.apply(i1);
+        }
+
+        @Override
+        Object generated() throws Throwable {
+            return generated.apply(i1);
+        }
+
+        @Override
+        Object generatedInline() throws Throwable {
+            return GENERATED_INLINE.apply(i1);
+        }
+    }
+
+    static final class Arity4 extends Factory {
+
+        private int i1 = 1, i2 = 2, i3 = 3, i4 = 4;
+
+        private final Constructor<Value>
+            constructor,
+            constructorAccessible;
+
+        private final MethodHandle
+            methodHandle,
+            methodHandleUnreflected;
+
+        private final CustomFactory
+            lambda,
+            generated;
+
+        private static final MethodHandle METHOD_HANDLE_INLINE;
+
+        private static final CustomFactory GENERATED_INLINE;
+
+        static {
+            try {
+                Constructor<Value> constructorAccessible = Value.class.getDeclaredConstructor(int.class, int.class, int.class, int.class);
+                constructorAccessible.setAccessible(true);
+                METHOD_HANDLE_INLINE = MethodHandles.lookup().findConstructor(Value.class, MethodType.methodType(void.class, int.class, int.class, int.class, int.class));
+                GENERATED_INLINE = AccessorGenerator.constructor(MethodHandles.lookup(), CustomFactory.class, constructorAccessible);
+            } catch (Exception e) {
+                throw new AssertionError();
+            }
+        }
+
+        Arity4() throws Throwable {
+            constructor = Value.class.getDeclaredConstructor(int.class, int.class, int.class, int.class);
+            constructorAccessible = Value.class.getDeclaredConstructor(int.class, int.class, int.class, int.class);
+            constructorAccessible.setAccessible(true);
+            methodHandle = MethodHandles.lookup().findConstructor(Value.class, MethodType.methodType(void.class, int.class, int.class, int.class, int.class));
+            methodHandleUnreflected = MethodHandles.lookup().unreflectConstructor(constructorAccessible);
+
+            CallSite lambdaSite = LambdaMetafactory.metafactory(
+                MethodHandles.lookup(),
+                "create",
+                MethodType.methodType(CustomFactory.class),
+                MethodType.methodType(Value.class, int.class, int.class, int.class, int.class),
+                methodHandle,
+                MethodType.methodType(Value.class, int.class, int.class, int.class, int.class));
+            lambda = (CustomFactory) lambdaSite.getTarget().invokeExact();
+            generated = AccessorGenerator.constructor(MethodHandles.lookup(), CustomFactory.class, constructorAccessible);
+        }
+
+        @Override
+        Object normal() throws Exception {
+            return new Value(i1, i2, i3, i4);
+        }
+
+        @Override
+        Object reflection() throws Exception {
+            return constructor.newInstance(i1, i2, i3, i4);
+        }
+
+        @Override
+        Object reflectionAccessible() throws Exception {
+            return constructorAccessible.newInstance(i1, i2, i3, i4);
+        }
+
+        @Override
+        Object handle() throws Throwable {
+            return methodHandle.invoke(i1, i2, i3, i4);
+        }
+
+        @Override
+        Object handleExact() throws Throwable {
+            return (Value) methodHandle.invokeExact(i1, i2, i3, i4);
+        }
+
+        @Override
+        Object handleUnreflected() throws Throwable {
+            return methodHandleUnreflected.invoke(i1, i2, i3, i4);
+        }
+
+        @Override
+        Object handleInline() throws Throwable {
+            return METHOD_HANDLE_INLINE.invoke(i1, i2, i3, i4);
+        }
+
+        @Override
+        Object handleExactInline() throws Throwable {
+            return (Value) METHOD_HANDLE_INLINE.invokeExact(i1, i2, i3, i4);
+        }
+
+        @Override
+        Object lambda() throws Throwable {
+            return lambda.create(i1, i2, i3, i4);
+        }
+
+        @Override
+        Object generated() throws Throwable {
+            return generated.create(i1, i2, i3, i4);
+        }
+
+        @Override
+        Object generatedInline() throws Throwable {
+            return GENERATED_INLINE.create(i1, i2, i3, i4);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package benchmark.copy;
+
+import benchmark.access.BeanCopier;
+import benchmark.access.BeanCopiers;
+import benchmark.access.ClassDefiner;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copies all fields of one bean onto another, reported as copied objects per second.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BeanCopyBenchmark {
+
+    @Param({"20", "50", "200"})
+    private int fields;
+
+    @Param({"reference", "primitive", "mixed"})
+    private String layout;
+
+    private Object source, target;
+
+    private BeanCopier
+        reflective,
+        handles,
+        handleTree,
+        generated;
+
+    @Setup
+    public void setup() throws Throwable {
+        Class<?> type = Beans.define(fields, Beans.Layout.valueOf(layout.toUpperCase(Locale.ROOT)));
+        MethodHandles.Lookup lookup = ClassDefiner.lookup(type);
+
+        source = Beans.instance(type);
+        target = type.getConstructor().newInstance();
+
+        reflective = BeanCopiers.reflective(type);
+        handles = BeanCopiers.handles(lookup, type);
+        handleTree = BeanCopiers.handleTree(lookup, type);
+        generated = BeanCopiers.generated(lookup, type);
+    }
+
+    @Benchmark
+    public Object reflection() {
+        reflective.copy(source, target);
+        return target;
+    }
+
+    @Benchmark
+    public Object handle() {
+        handles.copy(source, target);
+        return target;
+    }
+
+    @Benchmark
+    public Object handleTree() {
+        handleTree.copy(source, target);
+        return target;
+    }
+
+    @Benchmark
+    public Object generated() {
+        generated.copy(source, target);
+        return target;
+    }
+}
@@ -0,0 +1,86 @@
+package benchmark.copy;
+
+import benchmark.access.ClassDefiner;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Field;
+import java.util.Locale;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Defines bean classes with any number of private fields, all with a public no-argument constructor and a
+ * {@code lookup()} that hands out full-privilege access, see {@link ClassDefiner#lookup(Class)}.
+ */
+final class Beans {
+
+    enum Layout {
+
+        REFERENCE(String.class),
+        PRIMITIVE(int.class, long.class, double.class),
+        MIXED(int.class, String.class, long.class, String.class, double.class, String.class);
+
+        private final Class<?>[] types;
+
+        Layout(Class<?>... types) {
+            this.types = types;
+        }
+
+        Class<?> type(int index) {
+            return types[index % types.length];
+        }
+    }
+
+    private static final ClassDefiner DEFINER = new ClassDefiner(Beans.class.getClassLoader());
+
+    private Beans() {
+        /* static only */
+    }
+
+    static Class<?> define(int fields, Layout layout) {
+        String name = Beans.class.getName() + "$" + layout.name().charAt(0)
+                      + layout.name().substring(1).toLowerCase(Locale.ROOT) + fields;
+        return DEFINER.define(name, () -> emit(name, fields, layout));
+    }
+
+    /**
+     * Assigns a distinct value to every field so copies cannot be elided.
+     */
+    static Object instance(Class<?> type) throws ReflectiveOperationException {
+        Object instance = type.getConstructor().newInstance();
+        int index = 0;
+        for (Field field : type.getDeclaredFields()) {
+            field.setAccessible(true);
+            if (field.getType() == int.class) {
+                field.setInt(instance, index);
+            } else if (field.getType() == long.class) {
+                field.setLong(instance, index);
+            } else if (field.getType() == double.class) {
+                field.setDouble(instance, index);
+            } else {
+                field.set(instance, "value" + index);
+            }
+            index++;
+        }
+        return instance;
+    }
+
+    private static byte[] emit(String name, int fields, Layout layout) {
+        String internalName = name.replace('.', '/');
+
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        writer.visit(V1_8, ACC_PUBLIC | ACC_SUPER, internalName, null, "java/lang/Object", null);
+
+        for (int i = 0; i < fields; i++) {
+            writer.visitField(ACC_PRIVATE, "f" + i, Type.getDescriptor(layout.type(i)), null, null).visitEnd();
+        }
+
+        ClassDefiner.emitConstructor(writer, "java/lang/Object");
+
+        ClassDefiner.emitLookup(writer);
+
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+}
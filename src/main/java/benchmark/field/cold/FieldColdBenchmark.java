@@ -0,0 +1,236 @@
+package benchmark.field.cold;
+
+import benchmark.access.AccessorGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a single read of each strategy of {@link benchmark.field.pub.FieldBenchmark} in a fresh JVM. The first read
+ * includes resolving the field, {@code setAccessible}, spinning the accessor class and initializing the class holding
+ * a static final handle. Later reads are reached by running the preceding ones during setup. Field reflection does not
+ * inflate, the invocations match {@link benchmark.invocation.cold.InvocationColdBenchmark} to keep both comparable.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(20)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class FieldColdBenchmark {
+
+    @Param({"1", "16", "17"})
+    private int invocation;
+
+    public String value = "foo";
+
+    @FunctionalInterface
+    interface CustomGetter<T, E> {
+        T get(E target);
+    }
+
+    private Field
+        reflective,
+        reflectiveAccessible;
+
+    private MethodHandle
+        methodHandle,
+        methodHandleUnreflected;
+
+    private CustomGetter<String, FieldColdBenchmark>
+        generated;
+
+    private static final class HandleInline {
+
+        static final MethodHandle METHOD_HANDLE_INLINE;
+
+        static {
+            try {
+                METHOD_HANDLE_INLINE = MethodHandles.lookup().findGetter(FieldColdBenchmark.class, "value", String.class);
+            } catch (Exception e) {
+                throw new AssertionError();
+            }
+        }
+    }
+
+    private static final class HandleUnreflectedInline {
+
+        static final MethodHandle METHOD_HANDLE_UNREFLECTED_INLINE;
+
+        static {
+            try {
+                METHOD_HANDLE_UNREFLECTED_INLINE = MethodHandles.lookup().unreflectGetter(FieldColdBenchmark.class.getDeclaredField("value"));
+            } catch (Exception e) {
+                throw new AssertionError();
+            }
+        }
+    }
+
+    private static final class GeneratedInline {
+
+        static final CustomGetter<String, FieldColdBenchmark> GENERATED_INLINE;
+
+        static {
+            try {
+                GENERATED_INLINE = AccessorGenerator.getter(MethodHandles.lookup(), CustomGetter.class, FieldColdBenchmark.class.getDeclaredField("value"));
+            } catch (Exception e) {
+                throw new AssertionError();
+            }
+        }
+    }
+
+    /**
+     * Runs the reads preceding the measured one, only for the strategy of the current benchmark such that the others
+     * stay untouched.
+     */
+    @Setup
+    public void setup(BenchmarkParams params) throws Throwable {
+        String strategy = params.getBenchmark().substring(params.getBenchmark().lastIndexOf('.') + 1);
+        for (int i = 1; i < invocation; i++) {
+            switch (strategy) {
+                case "normal":
+                    normal();
+                    break;
+                case "reflection":
+                    reflection();
+                    break;
+                case "reflectionAccessible":
+                    reflectionAccessible();
+                    break;
+                case "handle":
+                    handle();
+                    break;
+                case "handleExact":
+                    handleExact();
+                    break;
+                case "handleUnreflected":
+                    handleUnreflected();
+                    break;
+                case "handleUnreflectedExact":
+                    handleUnreflectedExact();
+                    break;
+                case "handleInline":
+                    handleInline();
+                    break;
+                case "handleExactInline":
+                    handleExactInline();
+                    break;
+                case "handleUnreflectedInline":
+                    handleUnreflectedInline();
+                    break;
+                case "handleUnreflectedExactInline":
+                    handleUnreflectedExactInline();
+                    break;
+                case "generated":
+                    generated();
+                    break;
+                case "generatedInline":
+                    generatedInline();
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown strategy " + strategy);
+            }
+        }
+    }
+
+    private Field reflective() throws Exception {
+        if (reflective == null) {
+            reflective = FieldColdBenchmark.class.getDeclaredField("value");
+        }
+        return reflective;
+    }
+
+    private Field reflectiveAccessible() throws Exception {
+        if (reflectiveAccessible == null) {
+            reflectiveAccessible = FieldColdBenchmark.class.getDeclaredField("value");
+            reflectiveAccessible.setAccessible(true);
+        }
+        return reflectiveAccessible;
+    }
+
+    private MethodHandle methodHandle() throws Exception {
+        if (methodHandle == null) {
+            methodHandle = MethodHandles.lookup().findGetter(FieldColdBenchmark.class, "value", String.class);
+        }
+        return methodHandle;
+    }
+
+    private MethodHandle methodHandleUnreflected() throws Exception {
+        if (methodHandleUnreflected == null) {
+            methodHandleUnreflected = MethodHandles.lookup().unreflectGetter(reflective());
+        }
+        return methodHandleUnreflected;
+    }
+
+    @Benchmark
+    public Object normal() {
+        return value;
+    }
+
+    @Benchmark
+    public Object reflection() throws Exception {
+        return reflective().get(this);
+    }
+
+    @Benchmark
+    public Object reflectionAccessible() throws Exception {
+        return reflectiveAccessible().get(this);
+    }
+
+    @Benchmark
+    public Object handle() throws Throwable {
+        return methodHandle().invoke(this);
+    }
+
+    @Benchmark
+    public Object handleExact() throws Throwable {
+        return (String) methodHandle().invokeExact(this);
+    }
+
+    @Benchmark
+    public Object handleUnreflected() throws Throwable {
+        return methodHandleUnreflected().invoke(this);
+    }
+
+    @Benchmark
+    public Object handleUnreflectedExact() throws Throwable {
+        return (String) methodHandleUnreflected().invokeExact(this);
+    }
+
+    @Benchmark
+    public Object handleInline() throws Throwable {
+        return HandleInline.METHOD_HANDLE_INLINE.invoke(this);
+    }
+
+    @Benchmark
+    public Object handleExactInline() throws Throwable {
+        return (String) HandleInline.METHOD_HANDLE_INLINE.invokeExact(this);
+    }
+
+    @Benchmark
+    public Object handleUnreflectedInline() throws Throwable {
+        return HandleUnreflectedInline.METHOD_HANDLE_UNREFLECTED_INLINE.invoke(this);
+    }
+
+    @Benchmark
+    public Object handleUnreflectedExactInline() throws Throwable {
+        return (String) HandleUnreflectedInline.METHOD_HANDLE_UNREFLECTED_INLINE.invokeExact(this);
+    }
+
+    @Benchmark
+    public Object generated() throws Throwable {
+        if (generated == null) {
+            generated = AccessorGenerator.getter(MethodHandles.lookup(), CustomGetter.class, reflective());
+        }
+        return generated.get(this);
+    }
+
+    @Benchmark
+    public Object generatedInline() throws Throwable {
+        return GeneratedInline.GENERATED_INLINE.get(this);
+    }
+}
@@ -1,5 +1,6 @@
 package benchmark.field.priv;
 
+import benchmark.access.AccessorGenerator;
 import org.openjdk.jmh.annotations.*;
 
 import java.lang.invoke.MethodHandle;
@@ -19,21 +20,33 @@ public class FieldPrivateBenchmark {
         private String value = "bar";
     }
 
+    @FunctionalInterface
+    interface CustomGetter<T, E> {
+        T get(E target);
+    }
+
     private Field
         reflectiveAccessible;
 
     private MethodHandle
         methodHandleUnreflected;
 
+    private CustomGetter<String, Access>
+        generated;
+
     private static final MethodHandle
         METHOD_HANDLE_UNREFLECTED;
 
+    private static final CustomGetter<String, Access>
+        GENERATED_INLINE;
+
     static {
         try {
 
             Field reflectiveAccessiblePrivate = Access.class.getDeclaredField("value");
             reflectiveAccessiblePrivate.setAccessible(true);
             METHOD_HANDLE_UNREFLECTED = MethodHandles.lookup().unreflectGetter(reflectiveAccessiblePrivate);
+            GENERATED_INLINE = AccessorGenerator.getter(MethodHandles.lookup(), CustomGetter.class, reflectiveAccessiblePrivate);
         } catch (Exception e) {
             throw new AssertionError();
         }
@@ -44,6 +57,7 @@ public class FieldPrivateBenchmark {
         reflectiveAccessible = Access.class.getDeclaredField("value");
         reflectiveAccessible.setAccessible(true);
         methodHandleUnreflected = MethodHandles.lookup().unreflectGetter(reflectiveAccessible);
+        generated = AccessorGenerator.getter(MethodHandles.lookup(), CustomGetter.class, reflectiveAccessible);
     }
 
     @Benchmark
@@ -75,4 +89,14 @@ public class FieldPrivateBenchmark {
     public String handleUnreflectedExactInline() throws Throwable {
         return (String) METHOD_HANDLE_UNREFLECTED.invokeExact((Access) Access.INSTANCE);
     }
+
+    @Benchmark
+    public String generated() throws Throwable {
+        return generated.get(Access.INSTANCE);
+    }
+
+    @Benchmark
+    public String generatedInline() throws Throwable {
+        return GENERATED_INLINE.get(Access.INSTANCE);
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package benchmark.field.priv;
 
+import benchmark.access.AccessorGenerator;
 import org.openjdk.jmh.annotations.*;
 
 import java.lang.invoke.MethodHandle;
@@ -19,21 +20,33 @@ public class FieldPrivatePrimitiveBenchmark {
         public int value = 42;
     }
 
+    @FunctionalInterface
+    interface CustomGetter<E> {
+        int get(E target);
+    }
+
     private Field
         reflectiveAccessible;
 
     private MethodHandle
         methodHandleUnreflected;
 
+    private CustomGetter<Access>
+        generated;
+
     private static final MethodHandle
         METHOD_HANDLE_UNREFLECTED;
 
+    private static final CustomGetter<Access>
+        GENERATED_INLINE;
+
     static {
         try {
 
             Field reflectiveAccessiblePrivate = Access.class.getDeclaredField("value");
             reflectiveAccessiblePrivate.setAccessible(true);
             METHOD_HANDLE_UNREFLECTED = MethodHandles.lookup().unreflectGetter(reflectiveAccessiblePrivate);
+            GENERATED_INLINE = AccessorGenerator.getter(MethodHandles.lookup(), CustomGetter.class, reflectiveAccessiblePrivate);
         } catch (Exception e) {
             throw new AssertionError();
         }
@@ -44,6 +57,7 @@ public class FieldPrivatePrimitiveBenchmark {
         reflectiveAccessible = Access.class.getDeclaredField("value");
         reflectiveAccessible.setAccessible(true);
         methodHandleUnreflected = MethodHandles.lookup().unreflectGetter(reflectiveAccessible);
+        generated = AccessorGenerator.getter(MethodHandles.lookup(), CustomGetter.class, reflectiveAccessible);
     }
 
     @Benchmark
@@ -75,4 +89,14 @@ public class FieldPrivatePrimitiveBenchmark {
     public int handleUnreflectedExactInline() throws Throwable {
         return (int) METHOD_HANDLE_UNREFLECTED.invokeExact((Access) Access.INSTANCE);
     }
+
+    @Benchmark
+    public int generated() throws Throwable {
+        return generated.get(Access.INSTANCE);
+    }
+
+    @Benchmark
+    public int generatedInline() throws Throwable {
+        return GENERATED_INLINE.get(Access.INSTANCE);
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package benchmark.field.priv;
 
+import benchmark.access.AccessorGenerator;
 import org.openjdk.jmh.annotations.*;
 
 import java.lang.invoke.MethodHandle;
@@ -19,21 +20,33 @@ public class FieldPrivateStaticBenchmark {
         private static String value = "bar";
     }
 
+    @FunctionalInterface
+    interface CustomGetter<T> {
+        T get();
+    }
+
     private Field
         reflectiveAccessible;
 
     private MethodHandle
         methodHandleUnreflected;
 
+    private CustomGetter<String>
+        generated;
+
     private static final MethodHandle
         METHOD_HANDLE_UNREFLECTED;
 
+    private static final CustomGetter<String>
+        GENERATED_INLINE;
+
     static {
         try {
 
             Field reflectiveAccessiblePrivate = Access.class.getDeclaredField("value");
             reflectiveAccessiblePrivate.setAccessible(true);
             METHOD_HANDLE_UNREFLECTED = MethodHandles.lookup().unreflectGetter(reflectiveAccessiblePrivate);
+            GENERATED_INLINE = AccessorGenerator.getter(MethodHandles.lookup(), CustomGetter.class, reflectiveAccessiblePrivate);
         } catch (Exception e) {
             throw new AssertionError();
         }
@@ -44,6 +57,7 @@ public class FieldPrivateStaticBenchmark {
         reflectiveAccessible = Access.class.getDeclaredField("value");
         reflectiveAccessible.setAccessible(true);
         methodHandleUnreflected = MethodHandles.lookup().unreflectGetter(reflectiveAccessible);
+        generated = AccessorGenerator.getter(MethodHandles.lookup(), CustomGetter.class, reflectiveAccessible);
     }
 
     @Benchmark
@@ -75,4 +89,14 @@ public class FieldPrivateStaticBenchmark {
     public Object handleUnreflectedExactInline() throws Throwable {
         return (String) METHOD_HANDLE_UNREFLECTED.invokeExact();
     }
+
+    @Benchmark
+    public Object generated() throws Throwable {
+        return generated.get();
+    }
+
+    @Benchmark
+    public Object generatedInline() throws Throwable {
+        return GENERATED_INLINE.get();
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package benchmark.field.pub;
 
+import benchmark.access.AccessorGenerator;
 import org.openjdk.jmh.annotations.*;
 
 import java.lang.invoke.MethodHandle;
@@ -15,6 +16,11 @@ public class FieldBenchmark {
 
     public String value = "foo";
 
+    @FunctionalInterface
+    interface CustomGetter<T, E> {
+        T get(E target);
+    }
+
     private Field
         reflective,
         reflectiveAccessible;
@@ -23,15 +29,22 @@ public class FieldBenchmark {
         methodHandle,
         methodHandleUnreflected;
 
+    private CustomGetter<String, FieldBenchmark>
+        generated;
+
     private static final MethodHandle
         METHOD_HANDLE_INLINE,
         METHOD_HANDLE_UNREFLECTED_INLINE;
 
+    private static final CustomGetter<String, FieldBenchmark>
+        GENERATED_INLINE;
+
     static {
         try {
 
             METHOD_HANDLE_INLINE = MethodHandles.lookup().findGetter(FieldBenchmark.class, "value", String.class);
             METHOD_HANDLE_UNREFLECTED_INLINE = MethodHandles.lookup().unreflectGetter(FieldBenchmark.class.getDeclaredField("value"));
+            GENERATED_INLINE = AccessorGenerator.getter(MethodHandles.lookup(), CustomGetter.class, FieldBenchmark.class.getDeclaredField("value"));
         } catch (Exception e) {
             throw new AssertionError();
         }
@@ -44,6 +57,7 @@ public class FieldBenchmark {
         reflectiveAccessible.setAccessible(true);
         methodHandle = MethodHandles.lookup().findGetter(FieldBenchmark.class, "value", String.class);
         methodHandleUnreflected = MethodHandles.lookup().unreflectGetter(reflective);
+        generated = AccessorGenerator.getter(MethodHandles.lookup(), CustomGetter.class, reflective);
     }
 
     @Benchmark
@@ -100,4 +114,14 @@ public class FieldBenchmark {
     public Object handleUnreflectedExactInline() throws Throwable {
         return (String) METHOD_HANDLE_UNREFLECTED_INLINE.invokeExact(this);
     }
+
+    @Benchmark
+    public Object generated() throws Throwable {
+        return generated.get(this);
+    }
+
+    @Benchmark
+    public Object generatedInline() throws Throwable {
+        return GENERATED_INLINE.get(this);
+    }
 }
\ No newline at end of file
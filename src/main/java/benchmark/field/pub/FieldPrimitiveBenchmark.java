@@ -1,5 +1,6 @@
 package benchmark.field.pub;
 
+import benchmark.access.AccessorGenerator;
 import org.openjdk.jmh.annotations.*;
 
 import java.lang.invoke.MethodHandle;
@@ -15,6 +16,11 @@ public class FieldPrimitiveBenchmark {
 
     public int value = 42;
 
+    @FunctionalInterface
+    interface CustomGetter<E> {
+        int get(E target);
+    }
+
     private Field
         reflective,
         reflectiveAccessible;
@@ -23,15 +29,22 @@ public class FieldPrimitiveBenchmark {
         methodHandle,
         methodHandleUnreflected;
 
+    private CustomGetter<FieldPrimitiveBenchmark>
+        generated;
+
     private static final MethodHandle
         METHOD_HANDLE_INLINE,
         METHOD_HANDLE_UNREFLECTED_INLINE;
 
+    private static final CustomGetter<FieldPrimitiveBenchmark>
+        GENERATED_INLINE;
+
     static {
         try {
 
             METHOD_HANDLE_INLINE = MethodHandles.lookup().findGetter(FieldPrimitiveBenchmark.class, "value", int.class);
             METHOD_HANDLE_UNREFLECTED_INLINE = MethodHandles.lookup().unreflectGetter(FieldPrimitiveBenchmark.class.getDeclaredField("value"));
+            GENERATED_INLINE = AccessorGenerator.getter(MethodHandles.lookup(), CustomGetter.class, FieldPrimitiveBenchmark.class.getDeclaredField("value"));
         } catch (Exception e) {
             throw new AssertionError();
         }
@@ -44,6 +57,7 @@ public class FieldPrimitiveBenchmark {
         reflectiveAccessible.setAccessible(true);
         methodHandle = MethodHandles.lookup().findGetter(FieldPrimitiveBenchmark.class, "value", int.class);
         methodHandleUnreflected = MethodHandles.lookup().unreflectGetter(reflective);
+        generated = AccessorGenerator.getter(MethodHandles.lookup(), CustomGetter.class, reflective);
     }
 
     @Benchmark
@@ -100,4 +114,14 @@ public class FieldPrimitiveBenchmark {
     public int handleUnreflectedExactInline() throws Throwable {
         return (int) METHOD_HANDLE_UNREFLECTED_INLINE.invokeExact(this);
     }
+
+    @Benchmark
+    public int generated() throws Throwable {
+        return generated.get(this);
+    }
+
+    @Benchmark
+    public int generatedInline() throws Throwable {
+        return GENERATED_INLINE.get(this);
+    }
 }
\ No newline at end of file
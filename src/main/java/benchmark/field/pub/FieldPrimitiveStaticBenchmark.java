@@ -1,5 +1,6 @@
 package benchmark.field.pub;
 
+import benchmark.access.AccessorGenerator;
 import org.openjdk.jmh.annotations.*;
 
 import java.lang.invoke.MethodHandle;
@@ -15,6 +16,11 @@ public class FieldPrimitiveStaticBenchmark {
 
     public static int value = 42;
 
+    @FunctionalInterface
+    interface CustomGetter {
+        int get();
+    }
+
     private Field
         reflective,
         reflectiveAccessible;
@@ -23,15 +29,22 @@ public class FieldPrimitiveStaticBenchmark {
         methodHandle,
         methodHandleUnreflected;
 
+    private CustomGetter
+        generated;
+
     private static final MethodHandle
         METHOD_HANDLE_INLINE,
         METHOD_HANDLE_UNREFLECTED_INLINE;
 
+    private static final CustomGetter
+        GENERATED_INLINE;
+
     static {
         try {
 
             METHOD_HANDLE_INLINE = MethodHandles.lookup().findStaticGetter(FieldPrimitiveStaticBenchmark.class, "value", int.class);
             METHOD_HANDLE_UNREFLECTED_INLINE = MethodHandles.lookup().unreflectGetter(FieldPrimitiveStaticBenchmark.class.getDeclaredField("value"));
+            GENERATED_INLINE = AccessorGenerator.getter(MethodHandles.lookup(), CustomGetter.class, FieldPrimitiveStaticBenchmark.class.getDeclaredField("value"));
         } catch (Exception e) {
             throw new AssertionError();
         }
@@ -44,6 +57,7 @@ public class FieldPrimitiveStaticBenchmark {
         reflectiveAccessible.setAccessible(true);
         methodHandle = MethodHandles.lookup().findStaticGetter(FieldPrimitiveStaticBenchmark.class, "value", int.class);
         methodHandleUnreflected = MethodHandles.lookup().unreflectGetter(reflective);
+        generated = AccessorGenerator.getter(MethodHandles.lookup(), CustomGetter.class, reflective);
     }
 
     @Benchmark
@@ -100,4 +114,14 @@ public class FieldPrimitiveStaticBenchmark {
     public int handleUnreflectedExactInline() throws Throwable {
         return (int) METHOD_HANDLE_UNREFLECTED_INLINE.invokeExact();
     }
+
+    @Benchmark
+    public int generated() throws Throwable {
+        return generated.get();
+    }
+
+    @Benchmark
+    public int generatedInline() throws Throwable {
+        return GENERATED_INLINE.get();
+    }
 }
\ No newline at end of file
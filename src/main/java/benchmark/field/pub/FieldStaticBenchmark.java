@@ -1,5 +1,6 @@
 package benchmark.field.pub;
 
+import benchmark.access.AccessorGenerator;
 import org.openjdk.jmh.annotations.*;
 
 import java.lang.invoke.MethodHandle;
@@ -15,6 +16,11 @@ public class FieldStaticBenchmark {
 
     public static String value = "foo";
 
+    @FunctionalInterface
+    interface CustomGetter<T> {
+        T get();
+    }
+
     private Field
         reflective,
         reflectiveAccessible;
@@ -23,15 +29,22 @@ public class FieldStaticBenchmark {
         methodHandle,
         methodHandleUnreflected;
 
+    private CustomGetter<String>
+        generated;
+
     private static final MethodHandle
         METHOD_HANDLE_INLINE,
         METHOD_HANDLE_UNREFLECTED_INLINE;
 
+    private static final CustomGetter<String>
+        GENERATED_INLINE;
+
     static {
         try {
 
             METHOD_HANDLE_INLINE = MethodHandles.lookup().findStaticGetter(FieldStaticBenchmark.class, "value", String.class);
             METHOD_HANDLE_UNREFLECTED_INLINE = MethodHandles.lookup().unreflectGetter(FieldStaticBenchmark.class.getDeclaredField("value"));
+            GENERATED_INLINE = AccessorGenerator.getter(MethodHandles.lookup(), CustomGetter.class, FieldStaticBenchmark.class.getDeclaredField("value"));
         } catch (Exception e) {
             throw new AssertionError();
         }
@@ -44,6 +57,7 @@ public class FieldStaticBenchmark {
         reflectiveAccessible.setAccessible(true);
         methodHandle = MethodHandles.lookup().findStaticGetter(FieldStaticBenchmark.class, "value", String.class);
         methodHandleUnreflected = MethodHandles.lookup().unreflectGetter(reflective);
+        generated = AccessorGenerator.getter(MethodHandles.lookup(), CustomGetter.class, reflective);
     }
 
     @Benchmark
@@ -100,4 +114,14 @@ public class FieldStaticBenchmark {
     public Object handleUnreflectedExactInline() throws Throwable {
         return (String) METHOD_HANDLE_UNREFLECTED_INLINE.invokeExact();
     }
+
+    @Benchmark
+    public Object generated() throws Throwable {
+        return generated.get();
+    }
+
+    @Benchmark
+    public Object generatedInline() throws Throwable {
+        return GENERATED_INLINE.get();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package benchmark.field.shared;
+
+import benchmark.field.pub.FieldBenchmark;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Runs the benchmarks of {@link FieldBenchmark} with benchmark scoped state, such that all threads share the same
+ * accessor instances. Each nested subclass pins one thread count.
+ */
+@State(Scope.Benchmark)
+public abstract class FieldSharedBenchmark extends FieldBenchmark {
+
+    @Threads(1)
+    public static class Threads1 extends FieldSharedBenchmark {
+    }
+
+    @Threads(2)
+    public static class Threads2 extends FieldSharedBenchmark {
+    }
+
+    @Threads(4)
+    public static class Threads4 extends FieldSharedBenchmark {
+    }
+
+    @Threads(8)
+    public static class Threads8 extends FieldSharedBenchmark {
+    }
+
+    @Threads(Threads.MAX)
+    public static class ThreadsMax extends FieldSharedBenchmark {
+    }
+}
@@ -0,0 +1,146 @@
+package benchmark.ingest;
+
+import benchmark.access.Deserializer;
+import benchmark.access.Deserializers;
+import benchmark.access.Serializer;
+import benchmark.access.Serializers;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads every record of a memory-mapped file of {@link Reading}s once per operation, such that the score is file
+ * passes per second while {@link Input} reports records per second. The file is written during setup and is thus read
+ * from the page cache.
+ * <p>
+ * A single pass over the largest file takes seconds, so the iterations are pinned to one second each.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DeserializerBenchmark {
+
+    @Param({"1", "64", "2048"})
+    private int megabytes;
+
+    private Records file;
+
+    private Deserializer
+        reflective,
+        handles,
+        generated;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Input {
+
+        public long records;
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        file = Records.write((long) megabytes << 20);
+
+        reflective = Deserializers.reflective(Reading.class);
+        handles = Deserializers.handles(MethodHandles.lookup(), Reading.class);
+        generated = Deserializers.generated(MethodHandles.lookup(), Reading.class);
+
+        verify(file, reflective, handles, generated);
+    }
+
+    static void verify(Records file, Deserializer... deserializers) throws ReflectiveOperationException {
+        Serializer serializer = Serializers.composed(MethodHandles.lookup(), Reading.class);
+        ByteBuffer expected = ByteBuffer.allocate(1 << 12), actual = ByteBuffer.allocate(1 << 12);
+        serializer.write(normal(file.first()), expected);
+        expected.flip();
+        for (Deserializer deserializer : deserializers) {
+            actual.clear();
+            serializer.write(deserializer.read(file.first()), actual);
+            actual.flip();
+            if (!actual.equals(expected)) {
+                throw new AssertionError("Deserializers disagree");
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public long normal(Input input, Blackhole blackhole) {
+        return read(DeserializerBenchmark::normal, input, blackhole);
+    }
+
+    @Benchmark
+    public long reflection(Input input, Blackhole blackhole) {
+        return read(reflective, input, blackhole);
+    }
+
+    @Benchmark
+    public long handle(Input input, Blackhole blackhole) {
+        return read(handles, input, blackhole);
+    }
+
+    @Benchmark
+    public long generated(Input input, Blackhole blackhole) {
+        return read(generated, input, blackhole);
+    }
+
+    private long read(Deserializer deserializer, Input input, Blackhole blackhole) {
+        long count = file.read(deserializer, blackhole);
+        input.records += count;
+        return count;
+    }
+
+    /**
+     * The format of {@link Serializers} read by hand, fields sorted by name.
+     */
+    static Reading normal(ByteBuffer buffer) {
+        if (buffer.get() == 0) {
+            return null;
+        }
+        Reading reading = new Reading();
+        int labels = buffer.getInt();
+        if (labels >= 0) {
+            reading.labels = new ArrayList<>(labels);
+            for (int i = 0; i < labels; i++) {
+                reading.labels.add(string(buffer));
+            }
+        }
+        if (buffer.get() != 0) {
+            Reading.Location location = new Reading.Location();
+            location.latitude = buffer.getDouble();
+            location.longitude = buffer.getDouble();
+            location.site = string(buffer);
+            reading.location = location;
+        }
+        reading.quality = buffer.getInt();
+        reading.sensor = string(buffer);
+        reading.timestamp = buffer.getLong();
+        reading.valid = buffer.get() != 0;
+        reading.value = buffer.getDouble();
+        return reading;
+    }
+
+    private static String string(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = buffer.getChar();
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,49 @@
+package benchmark.ingest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A record of an ingest file with primitives, strings, a nested object and a list of strings.
+ */
+public class Reading {
+
+    long timestamp;
+
+    String sensor;
+
+    double value;
+
+    int quality;
+
+    boolean valid;
+
+    Location location;
+
+    List<String> labels;
+
+    public static class Location {
+
+        double latitude, longitude;
+
+        String site;
+    }
+
+    static Reading create(long index) {
+        Reading reading = new Reading();
+        reading.timestamp = 1_600_000_000_000L + index;
+        reading.sensor = "sensor-" + index % 1000;
+        reading.value = index * 0.5;
+        reading.quality = (int) (index % 100);
+        reading.valid = index % 7 != 0;
+        reading.location = new Location();
+        reading.location.latitude = 52.52;
+        reading.location.longitude = 13.40;
+        reading.location.site = "site-" + index % 10;
+        reading.labels = new ArrayList<>();
+        for (int i = 0; i < index % 4; i++) {
+            reading.labels.add("label-" + i);
+        }
+        return reading;
+    }
+}
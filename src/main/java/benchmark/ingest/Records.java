@@ -0,0 +1,102 @@
+package benchmark.ingest;
+
+import benchmark.access.Deserializer;
+import benchmark.access.Serializer;
+import benchmark.access.Serializers;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A file of {@link Reading}s in the format of {@link Serializers}, written back to back and mapped in segments of
+ * at most {@link #SEGMENT} bytes that each end on a record boundary, since a single mapping is limited to 2 GB.
+ */
+final class Records {
+
+    static final long SEGMENT = 1L << 30;
+
+    private final File file;
+
+    private final MappedByteBuffer[] segments;
+
+    private Records(File file, MappedByteBuffer[] segments) {
+        this.file = file;
+        this.segments = segments;
+    }
+
+    static Records write(long bytes) throws IOException, ReflectiveOperationException {
+        File file = File.createTempFile("records", ".bin");
+        Serializer serializer = Serializers.composed(MethodHandles.lookup(), Reading.class);
+        ByteBuffer record = ByteBuffer.allocateDirect(1 << 12), output = ByteBuffer.allocateDirect(1 << 20);
+        List<Long> boundaries = new ArrayList<>();
+        boundaries.add(0L);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            for (long index = 0; position < bytes; index++) {
+                record.clear();
+                serializer.write(Reading.create(index), record);
+                record.flip();
+                if (position + record.remaining() - boundaries.get(boundaries.size() - 1) > SEGMENT) {
+                    boundaries.add(position);
+                }
+                if (output.remaining() < record.remaining()) {
+                    drain(channel, output);
+                }
+                position += record.remaining();
+                output.put(record);
+            }
+            drain(channel, output);
+            boundaries.add(position);
+            MappedByteBuffer[] segments = new MappedByteBuffer[boundaries.size() - 1];
+            for (int i = 0; i < segments.length; i++) {
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, boundaries.get(i), boundaries.get(i + 1) - boundaries.get(i));
+            }
+            return new Records(file, segments);
+        }
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer output) throws IOException {
+        output.flip();
+        while (output.hasRemaining()) {
+            channel.write(output);
+        }
+        output.clear();
+    }
+
+    /**
+     * Returns a view of the first segment, positioned at the first record.
+     */
+    ByteBuffer first() {
+        return segments[0].duplicate();
+    }
+
+    /**
+     * Reads every record of the file and returns the number of records read.
+     */
+    long read(Deserializer deserializer, Blackhole blackhole) {
+        long count = 0;
+        for (MappedByteBuffer segment : segments) {
+            ByteBuffer buffer = segment.duplicate();
+            while (buffer.hasRemaining()) {
+                blackhole.consume(deserializer.read(buffer));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    void delete() {
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package benchmark.invocation.arity;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shows how the cost of each invocation strategy grows with the number of arguments. Reflection and
+ * {@code invokeWithArguments} box the arguments into a fresh array on every call, {@code reflectionArray} and
+ * {@code handleSpreader} reuse a prepared one. Each fork only ever sees one {@link Invoker}, so the call into it is
+ * monomorphic and costs the same for every strategy.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InvocationArityBenchmark {
+
+    @Param({"0", "1", "2", "4", "8", "16", "32"})
+    private int arity;
+
+    private Invoker invoker;
+
+    @Setup
+    public void setup() throws Throwable {
+        invoker = Invoker.of(arity);
+    }
+
+    @Benchmark
+    public Object normal() {
+        return invoker.normal();
+    }
+
+    @Benchmark
+    public Object reflection() throws Exception {
+        return invoker.reflection();
+    }
+
+    @Benchmark
+    public Object reflectionArray() throws Exception {
+        return invoker.reflectionArray();
+    }
+
+    @Benchmark
+    public Object handle() throws Throwable {
+        return invoker.handle();
+    }
+
+    @Benchmark
+    public Object handleExact() throws Throwable {
+        return invoker.handleExact();
+    }
+
+    @Benchmark
+    public Object handleSpreader() throws Throwable {
+        return invoker.handleSpreader();
+    }
+
+    @Benchmark
+    public Object handleWithArguments() throws Throwable {
+        return invoker.handleWithArguments();
+    }
+
+    @Benchmark
+    public Object lambda() throws Throwable {
+        return invoker.lambda();
+    }
+
+    @Benchmark
+    public Object generated() throws Throwable {
+        return invoker.generated();
+    }
+}
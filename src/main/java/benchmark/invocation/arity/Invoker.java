@@ -0,0 +1,750 @@
+package benchmark.invocation.arity;
+
+import benchmark.access.AccessorGenerator;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * Calls a method of a fixed arity with each strategy. Every arity is its own subclass with its own functional
+ * interface since neither {@code invokeExact} nor a lambda can abstract over the number of arguments.
+ */
+abstract class Invoker {
+
+    abstract Object normal();
+
+    abstract Object reflection() throws Exception;
+
+    abstract Object reflectionArray() throws Exception;
+
+    abstract Object handle() throws Throwable;
+
+    abstract Object handleExact() throws Throwable;
+
+    abstract Object handleSpreader() throws Throwable;
+
+    abstract Object handleWithArguments() throws Throwable;
+
+    abstract Object lambda() throws Throwable;
+
+    abstract Object generated() throws Throwable;
+
+    static Invoker of(int arity) throws Throwable {
+        switch (arity) {
+            case 0:
+                return new Arity0();
+            case 1:
+                return new Arity1();
+            case 2:
+                return new Arity2();
+            case 4:
+                return new Arity4();
+            case 8:
+                return new Arity8();
+            case 16:
+                return new Arity16();
+            case 32:
+                return new Arity32();
+            default:
+                throw new IllegalArgumentException("Unsupported arity " + arity);
+        }
+    }
+
+    static String[] arguments(int arity) {
+        String[] arguments = new String[arity];
+        for (int i = 0; i < arity; i++) {
+            arguments[i] = "s" + (i + 1);
+        }
+        return arguments;
+    }
+
+    static Class<?>[] parameterTypes(int arity) {
+        Class<?>[] parameterTypes = new Class<?>[arity];
+        Arrays.fill(parameterTypes, String.class);
+        return parameterTypes;
+    }
+
+    static final class Arity0 extends Invoker {
+
+        public String method() {
+            return "foo";
+        }
+
+        @FunctionalInterface
+        interface CustomFunction {
+            String run(Arity0 target);
+        }
+
+        private final Method method;
+
+        private final Object[] arguments;
+
+        private final MethodHandle
+            methodHandle,
+            methodHandleSpreader;
+
+        private final CustomFunction
+            lambda,
+            generated;
+
+        Arity0() throws Throwable {
+            method = Arity0.class.getDeclaredMethod("method", parameterTypes(0));
+            arguments = arguments(0);
+            methodHandle = MethodHandles.lookup().findVirtual(Arity0.class, "method", MethodType.methodType(String.class, parameterTypes(0)));
+            methodHandleSpreader = methodHandle.asType(methodHandle.type().generic()).asSpreader(Object[].class, 0);
+
+            CallSite lambdaSite = LambdaMetafactory.metafactory(
+                MethodHandles.lookup(),
+                "run",
+                MethodType.methodType(CustomFunction.class),
+                methodHandle.type(),
+                methodHandle,
+                methodHandle.type());
+            lambda = (CustomFunction) lambdaSite.getTarget().invokeExact();
+            generated = AccessorGenerator.method(MethodHandles.lookup(), CustomFunction.class, method);
+        }
+
+        @Override
+        Object normal() {
+            return method();
+        }
+
+        @Override
+        Object reflection() throws Exception {
+            return method.invoke(this);
+        }
+
+        @Override
+        Object reflectionArray() throws Exception {
+            return method.invoke(this, arguments);
+        }
+
+        @Override
+        Object handle() throws Throwable {
+            return methodHandle.invoke(this);
+        }
+
+        @Override
+        Object handleExact() throws Throwable {
+            return (String) methodHandle.invokeExact(this);
+        }
+
+        @Override
+        Object handleSpreader() throws Throwable {
+            return methodHandleSpreader.invokeExact((Object) this, arguments);
+        }
+
+        @Override
+        Object handleWithArguments() throws Throwable {
+            return methodHandle.invokeWithArguments(this);
+        }
+
+        @Override
+        Object lambda() throws Throwable {
+            return lambda.run(this);
+        }
+
+        @Override
+        Object generated() throws Throwable {
+            return generated.run(this);
+        }
+    }
+
+    static final class Arity1 extends Invoker {
+
+        private String s1;
+
+        public String method(String a1) {
+            return a1;
+        }
+
+        @FunctionalInterface
+        interface CustomFunction {
+            String run(Arity1 target, String a1);
+        }
+
+        private final Method method;
+
+        private final Object[] arguments;
+
+        private final MethodHandle
+            methodHandle,
+            methodHandleSpreader;
+
+        private final CustomFunction
+            lambda,
+            generated;
+
+        Arity1() throws Throwable {
+            String[] values = arguments(1);
+            s1 = values[0];
+            method = Arity1.class.getDeclaredMethod("method", parameterTypes(1));
+            arguments = arguments(1);
+            methodHandle = MethodHandles.lookup().findVirtual(Arity1.class, "method", MethodType.methodType(String.class, parameterTypes(1)));
+            methodHandleSpreader = methodHandle.asType(methodHandle.type().generic()).asSpreader(Object[].class, 1);
+
+            CallSite lambdaSite = LambdaMetafactory.metafactory(
+                MethodHandles.lookup(),
+                "run",
+                MethodType.methodType(CustomFunction.class),
+                methodHandle.type(),
+                methodHandle,
+                methodHandle.type());
+            lambda = (CustomFunction) lambdaSite.getTarget().invokeExact();
+            generated = AccessorGenerator.method(MethodHandles.lookup(), CustomFunction.class, method);
+        }
+
+        @Override
+        Object normal() {
+            return method(s1);
+        }
+
+        @Override
+        Object reflection() throws Exception {
+            return method.invoke(this, s1);
+        }
+
+        @Override
+        Object reflectionArray() throws Exception {
+            return method.invoke(this, arguments);
+        }
+
+        @Override
+        Object handle() throws Throwable {
+            return methodHandle.invoke(this, s1);
+        }
+
+        @Override
+        Object handleExact() throws Throwable {
+            return (String) methodHandle.invokeExact(this, s1);
+        }
+
+        @Override
+        Object handleSpreader() throws Throwable {
+            return methodHandleSpreader.invokeExact((Object) this, arguments);
+        }
+
+        @Override
+        Object handleWithArguments() throws Throwable {
+            return methodHandle.invokeWithArguments(this, s1);
+        }
+
+        @Override
+        Object lambda() throws Throwable {
+            return lambda.run(this, s1);
+        }
+
+        @Override
+        Object generated() throws Throwable {
+            return generated.run(this, s1);
+        }
+    }
+
+    static final class Arity2 extends Invoker {
+
+        private String s1, s2;
+
+        public String method(String a1, String a2) {
+            return a2;
+        }
+
+        @FunctionalInterface
+        interface CustomFunction {
+            String run(Arity2 target, String a1, String a2);
+        }
+
+        private final Method method;
+
+        private final Object[] arguments;
+
+        private final MethodHandle
+            methodHandle,
+            methodHandleSpreader;
+
+        private final CustomFunction
+            lambda,
+            generated;
+
+        Arity2() throws Throwable {
+            String[] values = arguments(2);
+            s1 = values[0];
+            s2 = values[1];
+            method = Arity2.class.getDeclaredMethod("method", parameterTypes(2));
+            arguments = arguments(2);
+            methodHandle = MethodHandles.lookup().findVirtual(Arity2.class, "method", MethodType.methodType(String.class, parameterTypes(2)));
+            methodHandleSpreader = methodHandle.asType(methodHandle.type().generic()).asSpreader(Object[].class, 2);
+
+            CallSite lambdaSite = LambdaMetafactory.metafactory(
+                MethodHandles.lookup(),
+                "run",
+                MethodType.methodType(CustomFunction.class),
+                methodHandle.type(),
+                methodHandle,
+                methodHandle.type());
+            lambda = (CustomFunction) lambdaSite.getTarget().invokeExact();
+            generated = AccessorGenerator.method(MethodHandles.lookup(), CustomFunction.class, method);
+        }
+
+        @Override
+        Object normal() {
+            return method(s1, s2);
+        }
+
+        @Override
+        Object reflection() throws Exception {
+            return method.invoke(this, s1, s2);
+        }
+
+        @Override
+        Object reflectionArray() throws Exception {
+            return method.invoke(this, arguments);
+        }
+
+        @Override
+        Object handle() throws Throwable {
+            return methodHandle.invoke(this, s1, s2);
+        }
+
+        @Override
+        Object handleExact() throws Throwable {
+            return (String) methodHandle.invokeExact(this, s1, s2);
+        }
+
+        @Override
+        Object handleSpreader() throws Throwable {
+            return methodHandleSpreader.invokeExact((Object) this, arguments);
+        }
+
+        @Override
+        Object handleWithArguments() throws Throwable {
+            return methodHandle.invokeWithArguments(this, s1, s2);
+        }
+
+        @Override
+        Object lambda() throws Throwable {
+            return lambda.run(this, s1, s2);
+        }
+
+        @Override
+        Object generated() throws Throwable {
+            return generated.run(this, s1, s2);
+        }
+    }
+
+    static final class Arity4 extends Invoker {
+
+        private String s1, s2, s3, s4;
+
+        public String method(String a1, String a2, String a3, String a4) {
+            return a4;
+        }
+
+        @FunctionalInterface
+        interface CustomFunction {
+            String run(Arity4 target, String a1, String a2, String a3, String a4);
+        }
+
+        private final Method method;
+
+        private final Object[] arguments;
+
+        private final MethodHandle
+            methodHandle,
+            methodHandleSpreader;
+
+        private final CustomFunction
+            lambda,
+            generated;
+
+        Arity4() throws Throwable {
+            String[] values = arguments(4);
+            s1 = values[0];
+            s2 = values[1];
+            s3 = values[2];
+            s4 = values[3];
+            method = Arity4.class.getDeclaredMethod("method", parameterTypes(4));
+            arguments = arguments(4);
+            methodHandle = MethodHandles.lookup().findVirtual(Arity4.class, "method", MethodType.methodType(String.class, parameterTypes(4)));
+            methodHandleSpreader = methodHandle.asType(methodHandle.type().generic()).asSpreader(Object[].class, 4);
+
+            CallSite lambdaSite = LambdaMetafactory.metafactory(
+                MethodHandles.lookup(),
+                "run",
+                MethodType.methodType(CustomFunction.class),
+                methodHandle.type(),
+                methodHandle,
+                methodHandle.type());
+            lambda = (CustomFunction) lambdaSite.getTarget().invokeExact();
+            generated = AccessorGenerator.method(MethodHandles.lookup(), CustomFunction.class, method);
+        }
+
+        @Override
+        Object normal() {
+            return method(s1, s2, s3, s4);
+        }
+
+        @Override
+        Object reflection() throws Exception {
+            return method.invoke(this, s1, s2, s3, s4);
+        }
+
+        @Override
+        Object reflectionArray() throws Exception {
+            return method.invoke(this, arguments);
+        }
+
+        @Override
+        Object handle() throws Throwable {
+            return methodHandle.invoke(this, s1, s2, s3, s4);
+        }
+
+        @Override
+        Object handleExact() throws Throwable {
+            return (String) methodHandle.invokeExact(this, s1, s2, s3, s4);
+        }
+
+        @Override
+        Object handleSpreader() throws Throwable {
+            return methodHandleSpreader.invokeExact((Object) this, arguments);
+        }
+
+        @Override
+        Object handleWithArguments() throws Throwable {
+            return methodHandle.invokeWithArguments(this, s1, s2, s3, s4);
+        }
+
+        @Override
+        Object lambda() throws Throwable {
+            return lambda.run(this, s1, s2, s3, s4);
+        }
+
+        @Override
+        Object generated() throws Throwable {
+            return generated.run(this, s1, s2, s3, s4);
+        }
+    }
+
+    static final class Arity8 extends Invoker {
+
+        private String s1, s2, s3, s4, s5, s6, s7, s8;
+
+        public String method(String a1, String a2, String a3, String a4, String a5, String a6, String a7, String a8) {
+            return a8;
+        }
+
+        @FunctionalInterface
+        interface CustomFunction {
+            String run(Arity8 target, String a1, String a2, String a3, String a4, String a5, String a6, String a7, String a8);
+        }
+
+        private final Method method;
+
+        private final Object[] arguments;
+
+        private final MethodHandle
+            methodHandle,
+            methodHandleSpreader;
+
+        private final CustomFunction
+            lambda,
+            generated;
+
+        Arity8() throws Throwable {
+            String[] values = arguments(8);
+            s1 = values[0];
+            s2 = values[1];
+            s3 = values[2];
+            s4 = values[3];
+            s5 = values[4];
+            s6 = values[5];
+            s7 = values[6];
+            s8 = values[7];
+            method = Arity8.class.getDeclaredMethod("method", parameterTypes(8));
+            arguments = arguments(8);
+            methodHandle = MethodHandles.lookup().findVirtual(Arity8.class, "method", MethodType.methodType(String.class, parameterTypes(8)));
+            methodHandleSpreader = methodHandle.asType(methodHandle.type().generic()).asSpreader(Object[].class, 8);
+
+            CallSite lambdaSite = LambdaMetafactory.metafactory(
+                MethodHandles.lookup(),
+                "run",
+                MethodType.methodType(CustomFunction.class),
+                methodHandle.type(),
+                methodHandle,
+                methodHandle.type());
+            lambda = (CustomFunction) lambdaSite.getTarget().invokeExact();
+            generated = AccessorGenerator.method(MethodHandles.lookup(), CustomFunction.class, method);
+        }
+
+        @Override
+        Object normal() {
+            return method(s1, s2, s3, s4, s5, s6, s7, s8);
+        }
+
+        @Override
+        Object reflection() throws Exception {
+            return method.invoke(this, s1, s2, s3, s4, s5, s6, s7, s8);
+        }
+
+        @Override
+        Object reflectionArray() throws Exception {
+            return method.invoke(this, arguments);
+        }
+
+        @Override
+        Object handle() throws Throwable {
+            return methodHandle.invoke(this, s1, s2, s3, s4, s5, s6, s7, s8);
+        }
+
+        @Override
+        Object handleExact() throws Throwable {
+            return (String) methodHandle.invokeExact(this, s1, s2, s3, s4, s5, s6, s7, s8);
+        }
+
+        @Override
+        Object handleSpreader() throws Throwable {
+            return methodHandleSpreader.invokeExact((Object) this, arguments);
+        }
+
+        @Override
+        Object handleWithArguments() throws Throwable {
+            return methodHandle.invokeWithArguments(this, s1, s2, s3, s4, s5, s6, s7, s8);
+        }
+
+        @Override
+        Object lambda() throws Throwable {
+            return lambda.run(this, s1, s2, s3, s4, s5, s6, s7, s8);
+        }
+
+        @Override
+        Object generated() throws Throwable {
+            return generated.run(this, s1, s2, s3, s4, s5, s6, s7, s8);
+        }
+    }
+
+    static final class Arity16 extends Invoker {
+
+        private String s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, s12, s13, s14, s15, s16;
+
+        public String method(String a1, String a2, String a3, String a4, String a5, String a6, String a7, String a8, String a9, String a10, String a11, String a12, String a13, String a14, String a15, String a16) {
+            return a16;
+        }
+
+        @FunctionalInterface
+        interface CustomFunction {
+            String run(Arity16 target, String a1, String a2, String a3, String a4, String a5, String a6, String a7, String a8, String a9, String a10, String a11, String a12, String a13, String a14, String a15, String a16);
+        }
+
+        private final Method method;
+
+        private final Object[] arguments;
+
+        private final MethodHandle
+            methodHandle,
+            methodHandleSpreader;
+
+        private final CustomFunction
+            lambda,
+            generated;
+
+        Arity16() throws Throwable {
+            String[] values = arguments(16);
+            s1 = values[0];
+            s2 = values[1];
+            s3 = values[2];
+            s4 = values[3];
+            s5 = values[4];
+            s6 = values[5];
+            s7 = values[6];
+            s8 = values[7];
+            s9 = values[8];
+            s10 = values[9];
+            s11 = values[10];
+            s12 = values[11];
+            s13 = values[12];
+            s14 = values[13];
+            s15 = values[14];
+            s16 = values[15];
+            method = Arity16.class.getDeclaredMethod("method", parameterTypes(16));
+            arguments = arguments(16);
+            methodHandle = MethodHandles.lookup().findVirtual(Arity16.class, "method", MethodType.methodType(String.class, parameterTypes(16)));
+            methodHandleSpreader = methodHandle.asType(methodHandle.type().generic()).asSpreader(Object[].class, 16);
+
+            CallSite lambdaSite = LambdaMetafactory.metafactory(
+                MethodHandles.lookup(),
+                "run",
+                MethodType.methodType(CustomFunction.class),
+                methodHandle.type(),
+                methodHandle,
+                methodHandle.type());
+            lambda = (CustomFunction) lambdaSite.getTarget().invokeExact();
+            generated = AccessorGenerator.method(MethodHandles.lookup(), CustomFunction.class, method);
+        }
+
+        @Override
+        Object normal() {
+            return method(s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, s12, s13, s14, s15, s16);
+        }
+
+        @Override
+        Object reflection() throws Exception {
+            return method.invoke(this, s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, s12, s13, s14, s15, s16);
+        }
+
+        @Override
+        Object reflectionArray() throws Exception {
+            return method.invoke(this, arguments);
+        }
+
+        @Override
+        Object handle() throws Throwable {
+            return methodHandle.invoke(this, s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, s12, s13, s14, s15, s16);
+        }
+
+        @Override
+        Object handleExact() throws Throwable {
+            return (String) methodHandle.invokeExact(this, s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, s12, s13, s14, s15, s16);
+        }
+
+        @Override
+        Object handleSpreader() throws Throwable {
+            return methodHandleSpreader.invokeExact((Object) this, arguments);
+        }
+
+        @Override
+        Object handleWithArguments() throws Throwable {
+            return methodHandle.invokeWithArguments(this, s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, s12, s13, s14, s15, s16);
+        }
+
+        @Override
+        Object lambda() throws Throwable {
+            return lambda.run(this, s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, s12, s13, s14, s15, s16);
+        }
+
+        @Override
+        Object generated() throws Throwable {
+            return generated.run(this, s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, s12, s13, s14, s15, s16);
+        }
+    }
+
+    static final class Arity32 extends Invoker {
+
+        private String s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, s12, s13, s14, s15, s16, s17, s18, s19, s20, s21, s22, s23, s24, s25, s26, s27, s28, s29, s30, s31, s32;
+
+        public String method(String a1, String a2, String a3, String a4, String a5, String a6, String a7, String a8, String a9, String a10, String a11, String a12, String a13, String a14, String a15, String a16, String a17, String a18, String a19, String a20, String a21, String a22, String a23, String a24, String a25, String a26, String a27, String a28, String a29, String a30, String a31, String a32) {
+            return a32;
+        }
+
+        @FunctionalInterface
+        interface CustomFunction {
+            String run(Arity32 target, String a1, String a2, String a3, String a4, String a5, String a6, String a7, String a8, String a9, String a10, String a11, String a12, String a13, String a14, String a15, String a16, String a17, String a18, String a19, String a20, String a21, String a22, String a23, String a24, String a25, String a26, String a27, String a28, String a29, String a30, String a31, String a32);
+        }
+
+        private final Method method;
+
+        private final Object[] arguments;
+
+        private final MethodHandle
+            methodHandle,
+            methodHandleSpreader;
+
+        private final CustomFunction
+            lambda,
+            generated;
+
+        Arity32() throws Throwable {
+            String[] values = arguments(32);
+            s1 = values[0];
+            s2 = values[1];
+            s3 = values[2];
+            s4 = values[3];
+            s5 = values[4];
+            s6 = values[5];
+            s7 = values[6];
+            s8 = values[7];
+            s9 = values[8];
+            s10 = values[9];
+            s11 = values[10];
+            s12 = values[11];
+            s13 = values[12];
+            s14 = values[13];
+            s15 = values[14];
+            s16 = values[15];
+            s17 = values[16];
+            s18 = values[17];
+            s19 = values[18];
+            s20 = values[19];
+            s21 = values[20];
+            s22 = values[21];
+            s23 = values[22];
+            s24 = values[23];
+            s25 = values[24];
+            s26 = values[25];
+            s27 = values[26];
+            s28 = values[27];
+            s29 = values[28];
+            s30 = values[29];
+            s31 = values[30];
+            s32 = values[31];
+            method = Arity32.class.getDeclaredMethod("method", parameterTypes(32));
+            arguments = arguments(32);
+            methodHandle = MethodHandles.lookup().findVirtual(Arity32.class, "method", MethodType.methodType(String.class, parameterTypes(32)));
+            methodHandleSpreader = methodHandle.asType(methodHandle.type().generic()).asSpreader(Object[].class, 32);
+
+            CallSite lambdaSite = LambdaMetafactory.metafactory(
+                MethodHandles.lookup(),
+                "run",
+                MethodType.methodType(CustomFunction.class),
+                methodHandle.type(),
+                methodHandle,
+                methodHandle.type());
+            lambda = (CustomFunction) lambdaSite.getTarget().invokeExact();
+            generated = AccessorGenerator.method(MethodHandles.lookup(), CustomFunction.class, method);
+        }
+
+        @Override
+        Object normal() {
+            return method(s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, s12, s13, s14, s15, s16, s17, s18, s19, s20, s21, s22, s23, s24, s25, s26, s27, s28, s29, s30, s31, s32);
+        }
+
+        @Override
+        Object reflection() throws Exception {
+            return method.invoke(this, s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, s12, s13, s14, s15, s16, s17, s18, s19, s20, s21, s22, s23, s24, s25, s26, s27, s28, s29, s30, s31, s32);
+        }
+
+        @Override
+        Object reflectionArray() throws Exception {
+            return method.invoke(this, arguments);
+        }
+
+        @Override
+        Object handle() throws Throwable {
+            return methodHandle.invoke(this, s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, s12, s13, s14, s15, s16, s17, s18, s19, s20, s21, s22, s23, s24, s25, s26, s27, s28, s29, s30, s31, s32);
+        }
+
+        @Override
+        Object handleExact() throws Throwable {
+            return (String) methodHandle.invokeExact(this, s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, s12, s13, s14, s15, s16, s17, s18, s19, s20, s21, s22, s23, s24, s25, s26, s27, s28, s29, s30, s31, s32);
+        }
+
+        @Override
+        Object handleSpreader() throws Throwable {
+            return methodHandleSpreader.invokeExact((Object) this, arguments);
+        }
+
+        @Override
+        Object handleWithArguments() throws Throwable {
+            return methodHandle.invokeWithArguments(this, s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, s12, s13, s14, s15, s16, s17, s18, s19, s20, s21, s22, s23, s24, s25, s26, s27, s28, s29, s30, s31, s32);
+        }
+
+        @Override
+        Object lambda() throws Throwable {
+            return lambda.run(this, s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, s12, s13, s14, s15, s16, s17, s18, s19, s20, s21, s22, s23, s24, s25, s26, s27, s28, s29, s30, s31, s32);
+        }
+
+        @Override
+        Object generated() throws Throwable {
+            return generated.run(this, s1, s2, s3, s4, s5, s6, s7, s8, s9, s10, s11, s12, s13, s14, s15, s16, s17, s18, s19, s20, s21, s22, s23, s24, s25, s26, s27, s28, s29, s30, s31, s32);
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package benchmark.invocation.cold;
+
+import benchmark.access.AccessorGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a single invocation of each strategy of {@link benchmark.invocation.pub.InvocationBenchmark} in a fresh JVM.
+ * The first invocation includes resolving the member, {@code setAccessible}, spinning the lambda or accessor class and
+ * initializing the class holding a static final handle. Later invocations are reached by running the preceding ones
+ * during setup. With the default {@code sun.reflect.inflationThreshold} of 15, invocation 16 is where {@link Method#invoke}
+ * inflates from the native accessor to a generated one and invocation 17 is the first to run through the generated
+ * accessor. From Java 18, reflection is implemented on method handles and does not inflate anymore.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(20)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class InvocationColdBenchmark {
+
+    @Param({"1", "16", "17"})
+    private int invocation;
+
+    private String s1 = "foo", s2 = "bar", s3 = "qux", s4 = "baz";
+
+    public String method(String a, String b, String c, String d) {
+        return a + b + c + d;
+    }
+
+    @FunctionalInterface
+    interface CustomFunction<T, E> {
+        T run(E target, T a, T b, T c, T d);
+    }
+
+    private Method
+        method,
+        methodAccessible;
+
+    private MethodHandle
+        methodHandle,
+        methodHandleUnreflected;
+
+    private CustomFunction<String, InvocationColdBenchmark>
+        lambda,
+        lambdaUnreflected,
+        generated;
+
+    private static final class HandleInline {
+
+        static final MethodHandle METHOD_HANDLE_INLINE;
+
+        static {
+            try {
+                METHOD_HANDLE_INLINE = MethodHandles.lookup().findVirtual(InvocationColdBenchmark.class, "method",
+                                                                          MethodType.methodType(String.class, String.class, String.class, String.class, String.class));
+            } catch (Exception e) {
+                throw new AssertionError();
+            }
+        }
+    }
+
+    private static final class HandleUnreflectedInline {
+
+        static final MethodHandle METHOD_HANDLE_UNREFLECTED_INLINE;
+
+        static {
+            try {
+                Method methodAccessible = InvocationColdBenchmark.class.getDeclaredMethod("method", String.class, String.class, String.class, String.class);
+                methodAccessible.setAccessible(true);
+                METHOD_HANDLE_UNREFLECTED_INLINE = MethodHandles.lookup().unreflect(methodAccessible);
+            } catch (Exception e) {
+                throw new AssertionError();
+            }
+        }
+    }
+
+    private static final class GeneratedInline {
+
+        static final CustomFunction<String, InvocationColdBenchmark> GENERATED_INLINE;
+
+        static {
+            try {
+                Method methodAccessible = InvocationColdBenchmark.class.getDeclaredMethod("method", String.class, String.class, String.class, String.class);
+                methodAccessible.setAccessible(true);
+                GENERATED_INLINE = AccessorGenerator.method(MethodHandles.lookup(), CustomFunction.class, methodAccessible);
+            } catch (Exception e) {
+                throw new AssertionError();
+            }
+        }
+    }
+
+    /**
+     * Runs the invocations preceding the measured one, only for the strategy of the current benchmark such that the
+     * others stay untouched.
+     */
+    @Setup
+    public void setup(BenchmarkParams params) throws Throwable {
+        String strategy = params.getBenchmark().substring(params.getBenchmark().lastIndexOf('.') + 1);
+        for (int i = 1; i < invocation; i++) {
+            switch (strategy) {
+                case "normal":
+                    normal();
+                    break;
+                case "reflection":
+                    reflection();
+                    break;
+                case "reflectionAccessible":
+                    reflectionAccessible();
+                    break;
+                case "handle":
+                    handle();
+                    break;
+                case "handleExact":
+                    handleExact();
+                    break;
+                case "handleUnreflected":
+                    handleUnreflected();
+                    break;
+                case "handleUnreflectedExact":
+                    handleUnreflectedExact();
+                    break;
+                case "lambda":
+                    lambda();
+                    break;
+                case "lambdaUnreflected":
+                    lambdaUnreflected();
+                    break;
+                case "handleInline":
+                    handleInline();
+                    break;
+                case "handleExactInline":
+                    handleExactInline();
+                    break;
+                case "handleUnreflectedInline":
+                    handleUnreflectedInline();
+                    break;
+                case "handleUnreflectedExactInline":
+                    handleUnreflectedExactInline();
+                    break;
+                case "generated":
+                    generated();
+                    break;
+                case "generatedInline":
+                    generatedInline();
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown strategy " + strategy);
+            }
+        }
+    }
+
+    private Method method() throws Exception {
+        if (method == null) {
+            method = InvocationColdBenchmark.class.getDeclaredMethod("method", String.class, String.class, String.class, String.class);
+        }
+        return method;
+    }
+
+    private Method methodAccessible() throws Exception {
+        if (methodAccessible == null) {
+            methodAccessible = InvocationColdBenchmark.class.getDeclaredMethod("method", String.class, String.class, String.class, String.class);
+            methodAccessible.setAccessible(true);
+        }
+        return methodAccessible;
+    }
+
+    private MethodHandle methodHandle() throws Exception {
+        if (methodHandle == null) {
+            methodHandle = MethodHandles.lookup().findVirtual(InvocationColdBenchmark.class, "method",
+                                                              MethodType.methodType(String.class, String.class, String.class, String.class, String.class));
+        }
+        return methodHandle;
+    }
+
+    private MethodHandle methodHandleUnreflected() throws Exception {
+        if (methodHandleUnreflected == null) {
+            methodHandleUnreflected = MethodHandles.lookup().unreflect(methodAccessible());
+        }
+        return methodHandleUnreflected;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CustomFunction<String, InvocationColdBenchmark> lambda(MethodHandle methodHandle) throws Throwable {
+        CallSite lambdaSite = LambdaMetafactory.metafactory(
+            MethodHandles.lookup(),
+            "run",
+            MethodType.methodType(CustomFunction.class),
+            MethodType.methodType(Object.class, Object.class, Object.class, Object.class, Object.class, Object.class),
+            methodHandle,
+            MethodType.methodType(String.class, InvocationColdBenchmark.class, String.class, String.class, String.class, String.class));
+        return (CustomFunction<String, InvocationColdBenchmark>) lambdaSite.getTarget().invokeExact();
+    }
+
+    @Benchmark
+    public Object normal() throws Exception {
+        return method(s1, s2, s3, s4);
+    }
+
+    @Benchmark
+    public Object reflection() throws Exception {
+        return method().invoke(this, s1, s2, s3, s4);
+    }
+
+    @Benchmark
+    public Object reflectionAccessible() throws Exception {
+        return methodAccessible().invoke(this, s1, s2, s3, s4);
+    }
+
+    @Benchmark
+    public Object handle() throws Throwable {
+        return methodHandle().invoke(this, s1, s2, s3, s4);
+    }
+
+    @Benchmark
+    public Object handleExact() throws Throwable {
+        return (String) methodHandle().invokeExact(this, s1, s2, s3, s4);
+    }
+
+    @Benchmark
+    public Object handleUnreflected() throws Throwable {
+        return methodHandleUnreflected().invoke(this, s1, s2, s3, s4);
+    }
+
+    @Benchmark
+    public Object handleUnreflectedExact() throws Throwable {
+        return (String) methodHandleUnreflected().invokeExact(this, s1, s2, s3, s4);
+    }
+
+    @Benchmark
+    public Object lambda() throws Throwable {
+        if (lambda == null) {
+            lambda = lambda(methodHandle());
+        }
+        return lambda.run(this, s1, s2, s3, s4);
+    }
+
+    @Benchmark
+    public Object lambdaUnreflected() throws Throwable {
+        if (lambdaUnreflected == null) {
+            lambdaUnreflected = lambda(methodHandleUnreflected());
+        }
+        return lambdaUnreflected.run(this, s1, s2, s3, s4);
+    }
+
+    @Benchmark
+    public Object handleInline() throws Throwable {
+        return HandleInline.METHOD_HANDLE_INLINE.invoke(this, s1, s2, s3, s4);
+    }
+
+    @Benchmark
+    public Object handleExactInline() throws Throwable {
+        return (String) HandleInline.METHOD_HANDLE_INLINE.invokeExact(this, s1, s2, s3, s4);
+    }
+
+    @Benchmark
+    public Object handleUnreflectedInline() throws Throwable {
+        return HandleUnreflectedInline.METHOD_HANDLE_UNREFLECTED_INLINE.invoke(this, s1, s2, s3, s4);
+    }
+
+    @Benchmark
+    public Object handleUnreflectedExactInline() throws Throwable {
+        return (String) HandleUnreflectedInline.METHOD_HANDLE_UNREFLECTED_INLINE.invokeExact(this, s1, s2, s3, s4);
+    }
+
+    @Benchmark
+    public Object generated() throws Throwable {
+        if (generated == null) {
+            generated = AccessorGenerator.method(MethodHandles.lookup(), CustomFunction.class, methodAccessible());
+        }
+        return generated.run(this, s1, s2, s3, s4);
+    }
+
+    @Benchmark
+    public Object generatedInline() throws Throwable {
+        return GeneratedInline.GENERATED_INLINE.run(this, s1, s2, s3, s4);
+    }
+}
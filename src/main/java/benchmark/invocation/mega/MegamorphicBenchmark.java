@@ -0,0 +1,116 @@
+package benchmark.invocation.mega;
+
+import benchmark.access.AccessorGenerator;
+import benchmark.access.ClassDefiner;
+import benchmark.invocation.mega.Targets.Target;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MegamorphicBenchmark {
+
+    @Param({"1", "2", "8", "64", "1024"})
+    private int targets;
+
+    private String s1 = "foo", s2 = "bar", s3 = "qux", s4 = "baz";
+
+    @FunctionalInterface
+    public interface CustomFunction<T, E> {
+        T run(E target, T a, T b, T c, T d);
+    }
+
+    private int index;
+
+    private Target[] instances;
+
+    private Method[] methods;
+
+    private MethodHandle[]
+        methodHandles,
+        methodHandlesErased;
+
+    private CustomFunction<String, Object>[]
+        lambdas,
+        generated;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() throws Throwable {
+        Class<?>[] classes = Targets.define(targets);
+        MethodType methodType = MethodType.methodType(String.class, String.class, String.class, String.class, String.class);
+
+        instances = new Target[targets];
+        methods = new Method[targets];
+        methodHandles = new MethodHandle[targets];
+        methodHandlesErased = new MethodHandle[targets];
+        lambdas = (CustomFunction<String, Object>[]) new CustomFunction<?, ?>[targets];
+        generated = (CustomFunction<String, Object>[]) new CustomFunction<?, ?>[targets];
+
+        for (int i = 0; i < targets; i++) {
+            Class<?> type = classes[i];
+            MethodHandles.Lookup lookup = ClassDefiner.lookup(type);
+
+            instances[i] = (Target) type.getConstructor().newInstance();
+            methods[i] = type.getMethod("method", String.class, String.class, String.class, String.class);
+            methodHandles[i] = lookup.findVirtual(type, "method", methodType);
+            methodHandlesErased[i] = methodHandles[i].asType(methodHandles[i].type().changeParameterType(0, Object.class));
+
+            CallSite lambdaSite = LambdaMetafactory.metafactory(
+                lookup,
+                "run",
+                MethodType.methodType(CustomFunction.class),
+                MethodType.methodType(Object.class, Object.class, Object.class, Object.class, Object.class, Object.class),
+                methodHandles[i],
+                methodHandles[i].type());
+            lambdas[i] = (CustomFunction<String, Object>) lambdaSite.getTarget().invokeExact();
+
+            generated[i] = AccessorGenerator.method(lookup, CustomFunction.class, methods[i]);
+        }
+    }
+
+    private int next() {
+        int current = index;
+        index = current + 1 == targets ? 0 : current + 1;
+        return current;
+    }
+
+    @Benchmark
+    public Object normal() throws Exception {
+        return instances[next()].method(s1, s2, s3, s4);
+    }
+
+    @Benchmark
+    public Object reflection() throws Exception {
+        int i = next();
+        return methods[i].invoke(instances[i], s1, s2, s3, s4);
+    }
+
+    @Benchmark
+    public Object handle() throws Throwable {
+        int i = next();
+        return methodHandles[i].invoke(instances[i], s1, s2, s3, s4);
+    }
+
+    @Benchmark
+    public Object handleExact() throws Throwable {
+        int i = next();
+        return (String) methodHandlesErased[i].invokeExact((Object) instances[i], s1, s2, s3, s4);
+    }
+
+    @Benchmark
+    public Object lambda() throws Throwable {
+        int i = next();
+        return lambdas[i].run(instances[i], s1, s2, s3, s4);
+    }
+
+    @Benchmark
+    public Object generated() throws Throwable {
+        int i = next();
+        return generated[i].run(instances[i], s1, s2, s3, s4);
+    }
+}
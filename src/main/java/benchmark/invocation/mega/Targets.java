@@ -0,0 +1,64 @@
+package benchmark.invocation.mega;
+
+import benchmark.access.ClassDefiner;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Defines any number of distinct {@link Target} subclasses so a single call site can be made arbitrarily megamorphic.
+ * Every class gets its own {@code lookup()}, see {@link ClassDefiner#lookup(Class)}.
+ */
+final class Targets {
+
+    private Targets() {
+        /* static only */
+    }
+
+    public abstract static class Target {
+
+        public abstract String method(String a, String b, String c, String d);
+
+        public static String concat(String a, String b, String c, String d) {
+            return a + b + c + d;
+        }
+    }
+
+    static Class<?>[] define(int count) {
+        ClassDefiner definer = new ClassDefiner(Targets.class.getClassLoader());
+        Class<?>[] classes = new Class<?>[count];
+        for (int i = 0; i < count; i++) {
+            String name = Targets.class.getName() + "$Generated" + i;
+            classes[i] = definer.define(name, () -> emit(name));
+        }
+        return classes;
+    }
+
+    private static byte[] emit(String name) {
+        String internalName = name.replace('.', '/');
+        String superName = Type.getInternalName(Target.class);
+        String descriptor = "(Ljava/lang/String;Ljava/lang/String;Ljava/lang/String;Ljava/lang/String;)Ljava/lang/String;";
+
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        writer.visit(V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, internalName, null, superName, null);
+
+        ClassDefiner.emitConstructor(writer, superName);
+
+        MethodVisitor method = writer.visitMethod(ACC_PUBLIC, "method", descriptor, null, null);
+        method.visitCode();
+        for (int i = 1; i <= 4; i++) {
+            method.visitVarInsn(ALOAD, i);
+        }
+        method.visitMethodInsn(INVOKESTATIC, superName, "concat", descriptor, false);
+        method.visitInsn(ARETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+
+        ClassDefiner.emitLookup(writer);
+
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+}
@@ -1,5 +1,6 @@
 package benchmark.invocation.priv;
 
+import benchmark.access.AccessorGenerator;
 import org.openjdk.jmh.annotations.*;
 
 import java.lang.invoke.*;
@@ -22,20 +23,32 @@ public class InvocationPrivateBenchmark {
         }
     }
 
+    @FunctionalInterface
+    interface CustomFunction<T, E> {
+        T run(E target, T a, T b, T c, T d);
+    }
+
     private Method
         methodAccessible;
 
     private MethodHandle
         methodHandleUnreflected;
 
+    private CustomFunction<String, Access>
+        generated;
+
     private static final MethodHandle
         METHOD_HANDLE_UNREFLECTED_INLINE;
 
+    private static final CustomFunction<String, Access>
+        GENERATED_INLINE;
+
     static {
         try {
             Method methodAccessiblePrivate = Access.class.getDeclaredMethod("method", String.class, String.class, String.class, String.class);
             methodAccessiblePrivate.setAccessible(true);
             METHOD_HANDLE_UNREFLECTED_INLINE = MethodHandles.lookup().unreflect(methodAccessiblePrivate);
+            GENERATED_INLINE = AccessorGenerator.method(MethodHandles.lookup(), CustomFunction.class, methodAccessiblePrivate);
         } catch (Exception e) {
             throw new AssertionError();
         }
@@ -46,6 +59,7 @@ public class InvocationPrivateBenchmark {
         methodAccessible = Access.class.getDeclaredMethod("method", String.class, String.class, String.class, String.class);
         methodAccessible.setAccessible(true);
         methodHandleUnreflected = MethodHandles.lookup().unreflect(methodAccessible);
+        generated = AccessorGenerator.method(MethodHandles.lookup(), CustomFunction.class, methodAccessible);
     }
 
     @Benchmark
@@ -77,4 +91,14 @@ public class InvocationPrivateBenchmark {
     public Object handleUnreflectedExactInline() throws Throwable {
         return (String) METHOD_HANDLE_UNREFLECTED_INLINE.invokeExact(Access.INSTANCE, s1, s2, s3, s4);
     }
+
+    @Benchmark
+    public Object generated() throws Throwable {
+        return generated.run(Access.INSTANCE, s1, s2, s3, s4);
+    }
+
+    @Benchmark
+    public Object generatedInline() throws Throwable {
+        return GENERATED_INLINE.run(Access.INSTANCE, s1, s2, s3, s4);
+    }
 }
\ No newline at end of file
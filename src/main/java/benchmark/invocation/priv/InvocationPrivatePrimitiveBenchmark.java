@@ -1,5 +1,6 @@
 package benchmark.invocation.priv;
 
+import benchmark.access.AccessorGenerator;
 import org.openjdk.jmh.annotations.*;
 
 import java.lang.invoke.*;
@@ -22,20 +23,32 @@ public class InvocationPrivatePrimitiveBenchmark {
         }
     }
 
+    @FunctionalInterface
+    interface CustomFunction<E> {
+        int run(E target, int a, int b, int c, int d);
+    }
+
     private Method
         methodAccessible;
 
     private MethodHandle
         methodHandleUnreflected;
 
+    private CustomFunction<Access>
+        generated;
+
     private static final MethodHandle
         METHOD_HANDLE_UNREFLECTED_INLINE;
 
+    private static final CustomFunction<Access>
+        GENERATED_INLINE;
+
     static {
         try {
             Method methodAccessiblePrivate = Access.class.getDeclaredMethod("method", int.class, int.class, int.class, int.class);
             methodAccessiblePrivate.setAccessible(true);
             METHOD_HANDLE_UNREFLECTED_INLINE = MethodHandles.lookup().unreflect(methodAccessiblePrivate);
+            GENERATED_INLINE = AccessorGenerator.method(MethodHandles.lookup(), CustomFunction.class, methodAccessiblePrivate);
         } catch (Exception e) {
             throw new AssertionError();
         }
@@ -46,6 +59,7 @@ public class InvocationPrivatePrimitiveBenchmark {
         methodAccessible = Access.class.getDeclaredMethod("method", int.class, int.class, int.class, int.class);
         methodAccessible.setAccessible(true);
         methodHandleUnreflected = MethodHandles.lookup().unreflect(methodAccessible);
+        generated = AccessorGenerator.method(MethodHandles.lookup(), CustomFunction.class, methodAccessible);
     }
 
     @Benchmark
@@ -77,4 +91,14 @@ public class InvocationPrivatePrimitiveBenchmark {
     public int handleUnreflectedExactInline() throws Throwable {
         return (int) METHOD_HANDLE_UNREFLECTED_INLINE.invokeExact(Access.INSTANCE, i1, i2, i3, i4);
     }
+
+    @Benchmark
+    public int generated() throws Throwable {
+        return generated.run(Access.INSTANCE, i1, i2, i3, i4);
+    }
+
+    @Benchmark
+    public int generatedInline() throws Throwable {
+        return GENERATED_INLINE.run(Access.INSTANCE, i1, i2, i3, i4);
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package benchmark.invocation.pub;
 
+import benchmark.access.AccessorGenerator;
 import org.openjdk.jmh.annotations.*;
 
 import java.lang.invoke.*;
@@ -32,12 +33,16 @@ public class InvocationPrimitiveBenchmark {
 
     private CustomFunction<InvocationPrimitiveBenchmark>
         lambda,
-        lambdaUnreflected;
+        lambdaUnreflected,
+        generated;
 
     private static final MethodHandle
         METHOD_HANDLE_INLINE,
         METHOD_HANDLE_UNREFLECTED_INLINE;
 
+    private static final CustomFunction<InvocationPrimitiveBenchmark>
+        GENERATED_INLINE;
+
     static {
         try {
             Method methodAccessible = InvocationPrimitiveBenchmark.class.getDeclaredMethod("method", int.class, int.class, int.class, int.class);
@@ -45,6 +50,7 @@ public class InvocationPrimitiveBenchmark {
             METHOD_HANDLE_INLINE = MethodHandles.lookup().findVirtual(InvocationPrimitiveBenchmark.class, "method",
                                                                       MethodType.methodType(int.class, int.class, int.class, int.class, int.class));
             METHOD_HANDLE_UNREFLECTED_INLINE = MethodHandles.lookup().unreflect(methodAccessible);
+            GENERATED_INLINE = AccessorGenerator.method(MethodHandles.lookup(), CustomFunction.class, methodAccessible);
         } catch (Exception e) {
             throw new AssertionError();
         }
@@ -76,6 +82,7 @@ public class InvocationPrimitiveBenchmark {
             methodHandleUnreflected,
             MethodType.methodType(int.class, InvocationPrimitiveBenchmark.class, int.class, int.class, int.class, int.class));
         lambdaUnreflected = (CustomFunction<InvocationPrimitiveBenchmark>) lambdaUnreflectedSite.getTarget().invokeExact();
+        generated = AccessorGenerator.method(MethodHandles.lookup(), CustomFunction.class, methodAccessible);
     }
 
     @Benchmark
@@ -142,4 +149,14 @@ public class InvocationPrimitiveBenchmark {
     public int handleUnreflectedExactInline() throws Throwable {
         return (int) METHOD_HANDLE_UNREFLECTED_INLINE.invokeExact(this, i1, i2, i3, i4);
     }
+
+    @Benchmark
+    public int generated() throws Throwable {
+        return generated.run(this, i1, i2, i3, i4);
+    }
+
+    @Benchmark
+    public int generatedInline() throws Throwable {
+        return GENERATED_INLINE.run(this, i1, i2, i3, i4);
+    }
 }
\ No newline at end of file
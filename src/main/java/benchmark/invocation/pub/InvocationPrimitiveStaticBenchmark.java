@@ -1,5 +1,6 @@
 package benchmark.invocation.pub;
 
+import benchmark.access.AccessorGenerator;
 import org.openjdk.jmh.annotations.*;
 
 import java.lang.invoke.*;
@@ -32,12 +33,16 @@ public class InvocationPrimitiveStaticBenchmark {
 
     private CustomFunction
         lambda,
-        lambdaUnreflected;
+        lambdaUnreflected,
+        generated;
 
     private static final MethodHandle
         METHOD_HANDLE_INLINE,
         METHOD_HANDLE_UNREFLECTED_INLINE;
 
+    private static final CustomFunction
+        GENERATED_INLINE;
+
     static {
         try {
             Method methodAccessible = InvocationPrimitiveStaticBenchmark.class.getDeclaredMethod("method", int.class, int.class, int.class, int.class);
@@ -45,6 +50,7 @@ public class InvocationPrimitiveStaticBenchmark {
             METHOD_HANDLE_INLINE = MethodHandles.lookup().findStatic(InvocationPrimitiveStaticBenchmark.class, "method",
                                                                      MethodType.methodType(int.class, int.class, int.class, int.class, int.class));
             METHOD_HANDLE_UNREFLECTED_INLINE = MethodHandles.lookup().unreflect(methodAccessible);
+            GENERATED_INLINE = AccessorGenerator.method(MethodHandles.lookup(), CustomFunction.class, methodAccessible);
         } catch (Exception e) {
             throw new AssertionError();
         }
@@ -76,6 +82,7 @@ public class InvocationPrimitiveStaticBenchmark {
             methodHandleUnreflected,
             MethodType.methodType(int.class, int.class, int.class, int.class, int.class));
         lambdaUnreflected = (CustomFunction) lambdaUnreflectedSite.getTarget().invokeExact();
+        generated = AccessorGenerator.method(MethodHandles.lookup(), CustomFunction.class, methodAccessible);
     }
 
     @Benchmark
@@ -142,4 +149,14 @@ public class InvocationPrimitiveStaticBenchmark {
     public int handleUnreflectedExactInline() throws Throwable {
         return (int) METHOD_HANDLE_UNREFLECTED_INLINE.invokeExact(i1, i2, i3, i4);
     }
+
+    @Benchmark
+    public int generated() throws Throwable {
+        return generated.run(i1, i2, i3, i4);
+    }
+
+    @Benchmark
+    public int generatedInline() throws Throwable {
+        return GENERATED_INLINE.run(i1, i2, i3, i4);
+    }
 }
\ No newline at end of file
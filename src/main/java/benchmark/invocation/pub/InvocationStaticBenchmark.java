@@ -1,5 +1,6 @@
 package benchmark.invocation.pub;
 
+import benchmark.access.AccessorGenerator;
 import org.openjdk.jmh.annotations.*;
 
 import java.lang.invoke.*;
@@ -32,12 +33,16 @@ public class InvocationStaticBenchmark {
 
     private CustomFunction<String>
         lambda,
-        lambdaUnreflected;
+        lambdaUnreflected,
+        generated;
 
     private static final MethodHandle
         METHOD_HANDLE_INLINE,
         METHOD_HANDLE_UNREFLECTED_INLINE;
 
+    private static final CustomFunction<String>
+        GENERATED_INLINE;
+
     static {
         try {
             Method methodAccessible = InvocationStaticBenchmark.class.getDeclaredMethod("method", String.class, String.class, String.class, String.class);
@@ -45,6 +50,7 @@ public class InvocationStaticBenchmark {
             METHOD_HANDLE_INLINE = MethodHandles.lookup().findStatic(InvocationStaticBenchmark.class, "method",
                                                                      MethodType.methodType(String.class, String.class, String.class, String.class, String.class));
             METHOD_HANDLE_UNREFLECTED_INLINE = MethodHandles.lookup().unreflect(methodAccessible);
+            GENERATED_INLINE = AccessorGenerator.method(MethodHandles.lookup(), CustomFunction.class, methodAccessible);
         } catch (Exception e) {
             throw new AssertionError();
         }
@@ -76,6 +82,7 @@ public class InvocationStaticBenchmark {
             methodHandleUnreflected,
             MethodType.methodType(String.class, String.class, String.class, String.class, String.class));
         lambdaUnreflected = (CustomFunction<String>) lambdaUnreflectedSite.getTarget().invokeExact();
+        generated = AccessorGenerator.method(MethodHandles.lookup(), CustomFunction.class, methodAccessible);
     }
 
     @Benchmark
@@ -142,4 +149,14 @@ public class InvocationStaticBenchmark {
     public Object handleUnreflectedExactInline() throws Throwable {
         return (String) METHOD_HANDLE_UNREFLECTED_INLINE.invokeExact(s1, s2, s3, s4);
     }
+
+    @Benchmark
+    public Object generated() throws Throwable {
+        return generated.run(s1, s2, s3, s4);
+    }
+
+    @Benchmark
+    public Object generatedInline() throws Throwable {
+        return GENERATED_INLINE.run(s1, s2, s3, s4);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package benchmark.invocation.shared;
+
+import benchmark.invocation.pub.InvocationBenchmark;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Runs the benchmarks of {@link InvocationBenchmark} with benchmark scoped state, such that all threads share the same
+ * accessor instances. Each nested subclass pins one thread count.
+ */
+@State(Scope.Benchmark)
+public abstract class InvocationSharedBenchmark extends InvocationBenchmark {
+
+    @Threads(1)
+    public static class Threads1 extends InvocationSharedBenchmark {
+    }
+
+    @Threads(2)
+    public static class Threads2 extends InvocationSharedBenchmark {
+    }
+
+    @Threads(4)
+    public static class Threads4 extends InvocationSharedBenchmark {
+    }
+
+    @Threads(8)
+    public static class Threads8 extends InvocationSharedBenchmark {
+    }
+
+    @Threads(Threads.MAX)
+    public static class ThreadsMax extends InvocationSharedBenchmark {
+    }
+}
@@ -0,0 +1,137 @@
+package benchmark.proxy;
+
+import benchmark.access.AccessorGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.*;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calls {@link #method} through implementations of {@link Service} that delegate to this instance, once through a
+ * {@link Proxy} whose handler calls back reflectively as AOP layers do, once through a handler that calls the target
+ * directly to isolate the cost of the proxy itself, and through the alternatives that implement the interface without
+ * an {@link InvocationHandler}. The {@code create} benchmarks build a fresh delegate for this instance, the {@code Spun}
+ * ones define a new class for every delegate like a framework without its own class cache would.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProxyBenchmark {
+
+    private String s1 = "foo", s2 = "bar", s3 = "qux", s4 = "baz";
+
+    public String method(String a, String b, String c, String d) {
+        return a + b + c + d;
+    }
+
+    public interface Service {
+        String method(String a, String b, String c, String d);
+    }
+
+    private Method method;
+
+    private MethodHandle methodHandle, lambdaFactory;
+
+    private InvocationHandler reflectiveHandler, directHandler;
+
+    private Service
+        implementation,
+        proxy,
+        proxyDirect,
+        handleProxy,
+        lambda,
+        generated;
+
+    @Setup
+    public void setup() throws Throwable {
+        method = ProxyBenchmark.class.getMethod("method", String.class, String.class, String.class, String.class);
+        methodHandle = MethodHandles.lookup().findVirtual(ProxyBenchmark.class, "method",
+                                                          MethodType.methodType(String.class, String.class, String.class, String.class, String.class));
+
+        implementation = this::method;
+
+        reflectiveHandler = (proxy, method, args) -> this.method.invoke(this, args);
+        directHandler = (proxy, method, args) -> method((String) args[0], (String) args[1], (String) args[2], (String) args[3]);
+        proxy = (Service) Proxy.newProxyInstance(Service.class.getClassLoader(), new Class<?>[] {Service.class}, reflectiveHandler);
+        proxyDirect = (Service) Proxy.newProxyInstance(Service.class.getClassLoader(), new Class<?>[] {Service.class}, directHandler);
+
+        handleProxy = MethodHandleProxies.asInterfaceInstance(Service.class, methodHandle.bindTo(this));
+
+        CallSite lambdaSite = LambdaMetafactory.metafactory(
+            MethodHandles.lookup(),
+            "method",
+            MethodType.methodType(Service.class, ProxyBenchmark.class),
+            MethodType.methodType(String.class, String.class, String.class, String.class, String.class),
+            methodHandle,
+            MethodType.methodType(String.class, String.class, String.class, String.class, String.class));
+        lambdaFactory = lambdaSite.getTarget();
+        lambda = (Service) lambdaFactory.invokeExact(this);
+
+        generated = AccessorGenerator.delegate(MethodHandles.lookup(), Service.class, method, this);
+    }
+
+    @Benchmark
+    public String normal() {
+        return implementation.method(s1, s2, s3, s4);
+    }
+
+    @Benchmark
+    public String proxy() {
+        return proxy.method(s1, s2, s3, s4);
+    }
+
+    @Benchmark
+    public String proxyDirect() {
+        return proxyDirect.method(s1, s2, s3, s4);
+    }
+
+    @Benchmark
+    public String handleProxy() {
+        return handleProxy.method(s1, s2, s3, s4);
+    }
+
+    @Benchmark
+    public String lambda() {
+        return lambda.method(s1, s2, s3, s4);
+    }
+
+    @Benchmark
+    public String generated() {
+        return generated.method(s1, s2, s3, s4);
+    }
+
+    @Benchmark
+    public Object createProxy() {
+        return Proxy.newProxyInstance(Service.class.getClassLoader(), new Class<?>[] {Service.class}, reflectiveHandler);
+    }
+
+    @Benchmark
+    public Object createHandleProxy() {
+        return MethodHandleProxies.asInterfaceInstance(Service.class, methodHandle.bindTo(this));
+    }
+
+    @Benchmark
+    public Object createLambda() throws Throwable {
+        return (Service) lambdaFactory.invokeExact(this);
+    }
+
+    @Benchmark
+    public Object createLambdaSpun() throws Throwable {
+        CallSite lambdaSite = LambdaMetafactory.metafactory(
+            MethodHandles.lookup(),
+            "method",
+            MethodType.methodType(Service.class, ProxyBenchmark.class),
+            MethodType.methodType(String.class, String.class, String.class, String.class, String.class),
+            methodHandle,
+            MethodType.methodType(String.class, String.class, String.class, String.class, String.class));
+        return (Service) lambdaSite.getTarget().invokeExact(this);
+    }
+
+    @Benchmark
+    public Object createGeneratedSpun() throws Throwable {
+        return AccessorGenerator.delegate(MethodHandles.lookup(), Service.class, method, this);
+    }
+}
@@ -0,0 +1,137 @@
+package benchmark.proxy;
+
+import benchmark.access.AccessorGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.*;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calls {@link #method} through implementations of {@link Service} that delegate to this instance, once through a
+ * {@link Proxy} whose handler calls back reflectively as AOP layers do, once through a handler that calls the target
+ * directly to isolate the cost of the proxy itself, and through the alternatives that implement the interface without
+ * an {@link InvocationHandler}. The {@code create} benchmarks build a fresh delegate for this instance, the {@code Spun}
+ * ones define a new class for every delegate like a framework without its own class cache would.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProxyPrimitiveBenchmark {
+
+    private int i1 = 1, i2 = 2, i3 = 3, i4 = 4;
+
+    public int method(int a, int b, int c, int d) {
+        return a + b + c + d;
+    }
+
+    public interface Service {
+        int method(int a, int b, int c, int d);
+    }
+
+    private Method method;
+
+    private MethodHandle methodHandle, lambdaFactory;
+
+    private InvocationHandler reflectiveHandler, directHandler;
+
+    private Service
+        implementation,
+        proxy,
+        proxyDirect,
+        handleProxy,
+        lambda,
+        generated;
+
+    @Setup
+    public void setup() throws Throwable {
+        method = ProxyPrimitiveBenchmark.class.getMethod("method", int.class, int.class, int.class, int.class);
+        methodHandle = MethodHandles.lookup().findVirtual(ProxyPrimitiveBenchmark.class, "method",
+                                                          MethodType.methodType(int.class, int.class, int.class, int.class, int.class));
+
+        implementation = this::method;
+
+        reflectiveHandler = (proxy, method, args) -> this.method.invoke(this, args);
+        directHandler = (proxy, method, args) -> method((Integer) args[0], (Integer) args[1], (Integer) args[2], (Integer) args[3]);
+        proxy = (Service) Proxy.newProxyInstance(Service.class.getClassLoader(), new Class<?>[] {Service.class}, reflectiveHandler);
+        proxyDirect = (Service) Proxy.newProxyInstance(Service.class.getClassLoader(), new Class<?>[] {Service.class}, directHandler);
+
+        handleProxy = MethodHandleProxies.asInterfaceInstance(Service.class, methodHandle.bindTo(this));
+
+        CallSite lambdaSite = LambdaMetafactory.metafactory(
+            MethodHandles.lookup(),
+            "method",
+            MethodType.methodType(Service.class, ProxyPrimitiveBenchmark.class),
+            MethodType.methodType(int.class, int.class, int.class, int.class, int.class),
+            methodHandle,
+            MethodType.methodType(int.class, int.class, int.class, int.class, int.class));
+        lambdaFactory = lambdaSite.getTarget();
+        lambda = (Service) lambdaFactory.invokeExact(this);
+
+        generated = AccessorGenerator.delegate(MethodHandles.lookup(), Service.class, method, this);
+    }
+
+    @Benchmark
+    public int normal() {
+        return implementation.method(i1, i2, i3, i4);
+    }
+
+    @Benchmark
+    public int proxy() {
+        return proxy.method(i1, i2, i3, i4);
+    }
+
+    @Benchmark
+    public int proxyDirect() {
+        return proxyDirect.method(i1, i2, i3, i4);
+    }
+
+    @Benchmark
+    public int handleProxy() {
+        return handleProxy.method(i1, i2, i3, i4);
+    }
+
+    @Benchmark
+    public int lambda() {
+        return lambda.method(i1, i2, i3, i4);
+    }
+
+    @Benchmark
+    public int generated() {
+        return generated.method(i1, i2, i3, i4);
+    }
+
+    @Benchmark
+    public Object createProxy() {
+        return Proxy.newProxyInstance(Service.class.getClassLoader(), new Class<?>[] {Service.class}, reflectiveHandler);
+    }
+
+    @Benchmark
+    public Object createHandleProxy() {
+        return MethodHandleProxies.asInterfaceInstance(Service.class, methodHandle.bindTo(this));
+    }
+
+    @Benchmark
+    public Object createLambda() throws Throwable {
+        return (Service) lambdaFactory.invokeExact(this);
+    }
+
+    @Benchmark
+    public Object createLambdaSpun() throws Throwable {
+        CallSite lambdaSite = LambdaMetafactory.metafactory(
+            MethodHandles.lookup(),
+            "method",
+            MethodType.methodType(Service.class, ProxyPrimitiveBenchmark.class),
+            MethodType.methodType(int.class, int.class, int.class, int.class, int.class),
+            methodHandle,
+            MethodType.methodType(int.class, int.class, int.class, int.class, int.class));
+        return (Service) lambdaSite.getTarget().invokeExact(this);
+    }
+
+    @Benchmark
+    public Object createGeneratedSpun() throws Throwable {
+        return AccessorGenerator.delegate(MethodHandles.lookup(), Service.class, method, this);
+    }
+}
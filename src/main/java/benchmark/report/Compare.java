@@ -0,0 +1,159 @@
+package benchmark.report;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.*;
+
+/**
+ * Compares a directory of new CSV results against a directory of baseline CSVs, such as the ones committed in the
+ * project root, and exits with status 1 when any benchmark got significantly slower.
+ * <p>
+ * A change only counts as significant when the 99.9% confidence intervals reported by JMH do not overlap and the
+ * scores differ by more than the threshold. Rows without an error estimate are compared by score alone.
+ * <p>
+ * Baselines without a result, whether the whole file or single rows are missing, fail the comparison as well, since a
+ * crashed suite or a renamed benchmark would otherwise pass unnoticed. Pass {@code -allow-missing} to only report
+ * them, e.g. when deliberately running a subset of the suites.
+ */
+public final class Compare {
+
+    enum Status {
+        REGRESSION,
+        IMPROVEMENT,
+        UNCHANGED,
+        INCOMPARABLE
+    }
+
+    private final double threshold;
+
+    private final boolean allowMissing;
+
+    private final PrintStream out;
+
+    int regressions, improvements, unchanged, missing;
+
+    Compare(double threshold, boolean allowMissing, PrintStream out) {
+        this.threshold = threshold;
+        this.allowMissing = allowMissing;
+        this.out = out;
+    }
+
+    public static void main(String[] args) throws IOException {
+        File baseline = null, results = null;
+        double threshold = 0;
+        boolean allowMissing = false;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("-threshold") && i + 1 < args.length) {
+                threshold = Double.parseDouble(args[++i].replace("%", "")) / 100;
+            } else if (args[i].equals("-allow-missing")) {
+                allowMissing = true;
+            } else if (baseline == null) {
+                baseline = new File(args[i]);
+            } else if (results == null) {
+                results = new File(args[i]);
+            } else {
+                baseline = null;
+                break;
+            }
+        }
+        if (baseline == null || results == null || !baseline.isDirectory() || !results.isDirectory()) {
+            System.err.println("Usage: Compare <baseline-dir> <result-dir> [-threshold <percent>] [-allow-missing]");
+            System.exit(2);
+            return;
+        }
+
+        Compare compare = new Compare(threshold, allowMissing, System.out);
+        compare.compare(baseline, results);
+        System.exit(compare.passed() ? 0 : 1);
+    }
+
+    /**
+     * Whether nothing regressed and, unless allowed, every baseline has a result.
+     */
+    boolean passed() {
+        return regressions == 0 && (allowMissing || missing == 0);
+    }
+
+    void compare(File baselineDirectory, File resultDirectory) throws IOException {
+        File[] baselines = baselineDirectory.listFiles((dir, name) -> name.endsWith(".csv"));
+        if (baselines == null) {
+            throw new IOException("Cannot list " + baselineDirectory);
+        }
+        Arrays.sort(baselines);
+        for (File baseline : baselines) {
+            File result = new File(resultDirectory, baseline.getName());
+            compare(baseline.getName(), ResultRow.read(baseline), result.isFile() ? ResultRow.read(result) : Collections.<ResultRow>emptyList());
+        }
+        out.printf("%n%d regressions, %d improvements, %d unchanged, %d missing from the new results%n",
+                   regressions, improvements, unchanged, missing);
+    }
+
+    private void compare(String name, List<ResultRow> baselineRows, List<ResultRow> resultRows) {
+        Map<String, ResultRow> results = new HashMap<>();
+        for (ResultRow row : resultRows) {
+            if (!row.isSecondary()) {
+                results.put(row.key(), row);
+            }
+        }
+        out.println(name);
+        for (ResultRow baseline : baselineRows) {
+            if (baseline.isSecondary()) {
+                continue;
+            }
+            ResultRow result = results.get(baseline.key());
+            if (result == null) {
+                missing++;
+                out.printf("  %-12s %s%n", "MISSING", baseline.key());
+                continue;
+            }
+            Status status = status(baseline, result);
+            switch (status) {
+                case REGRESSION:
+                    regressions++;
+                    break;
+                case IMPROVEMENT:
+                    improvements++;
+                    break;
+                case UNCHANGED:
+                    unchanged++;
+                    break;
+                default:
+                    break;
+            }
+            out.printf("  %-12s %-90s %12.3f -> %12.3f %-8s %s%n", status, baseline.key(),
+                       baseline.score, result.score, baseline.unit, percent(change(baseline.score, result.score)));
+        }
+    }
+
+    Status status(ResultRow baseline, ResultRow result) {
+        if (!baseline.unit.equals(result.unit) || !baseline.mode.equals(result.mode)) {
+            return Status.INCOMPARABLE;
+        }
+        double baselineError = Double.isNaN(baseline.error) ? 0 : baseline.error;
+        double resultError = Double.isNaN(result.error) ? 0 : result.error;
+        if (Math.abs(change(baseline.score, result.score)) <= threshold) {
+            return Status.UNCHANGED;
+        }
+        boolean higher = result.score - resultError > baseline.score + baselineError;
+        boolean lower = result.score + resultError < baseline.score - baselineError;
+        if (!higher && !lower) {
+            return Status.UNCHANGED;
+        }
+        return higher == baseline.isLowerBetter() ? Status.REGRESSION : Status.IMPROVEMENT;
+    }
+
+    /**
+     * The relative change of a score, which is infinite if only the baseline is zero.
+     */
+    static double change(double baseline, double result) {
+        if (baseline == 0) {
+            return result == 0 ? 0 : Math.copySign(Double.POSITIVE_INFINITY, result);
+        }
+        return (result - baseline) / baseline;
+    }
+
+    static String percent(double change) {
+        return Double.isInfinite(change) || Double.isNaN(change) ? "(n/a)" : String.format("(%+.1f%%)", 100 * change);
+    }
+}
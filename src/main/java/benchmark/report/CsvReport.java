@@ -0,0 +1,209 @@
+package benchmark.report;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.util.Statistics;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Collection;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Writes results in the same layout as JMH's own CSV format, but folds the GC profiler's secondary results into
+ * extra columns of the primary row instead of emitting them as separate rows. Likewise, the percentiles of sample
+ * time results are written as columns in the unit of the score rather than as one row per percentile.
+ * <p>
+ * Results of several JDKs can be merged into one file, in which case every row is tagged with the JDK version the
+ * benchmark was forked into.
+ */
+public final class CsvReport {
+
+    static final String PREFIX = "\u00b7";
+
+    static final String JDK = "JDK";
+
+    static final String ALLOC_RATE_NORM = "gc.alloc.rate.norm", GC_COUNT = "gc.count";
+
+    private static final String[] PERCENTILE_LABELS = {"p50", "p90", "p99", "p99.9", "max"};
+
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9, 100.0};
+
+    private static final String DELIMITER = ",";
+
+    private CsvReport() {
+        /* static only */
+    }
+
+    public static void write(Collection<RunResult> results, File file) throws IOException {
+        write(results, file, false);
+    }
+
+    public static void write(Collection<RunResult> results, File file, boolean jdk) throws IOException {
+        try (PrintStream out = new PrintStream(new FileOutputStream(file), false, "UTF-8")) {
+            write(results, out, jdk);
+        }
+    }
+
+    public static void write(Collection<RunResult> results, PrintStream out) {
+        write(results, out, false);
+    }
+
+    public static void write(Collection<RunResult> results, PrintStream out, boolean jdk) {
+        SortedSet<String> params = new TreeSet<>();
+        boolean gc = false, sample = false;
+        for (RunResult result : results) {
+            params.addAll(result.getParams().getParamsKeys());
+            gc |= secondary(result, GC_COUNT) != null;
+            sample |= result.getParams().getMode() == Mode.SampleTime;
+        }
+
+        out.print("\"Benchmark\"");
+        out.print(DELIMITER);
+        out.print("\"Mode\"");
+        out.print(DELIMITER);
+        out.print("\"Threads\"");
+        out.print(DELIMITER);
+        out.print("\"Samples\"");
+        out.print(DELIMITER);
+        out.print("\"Score\"");
+        out.print(DELIMITER);
+        out.printf("\"Score Error (%.1f%%)\"", 99.9);
+        out.print(DELIMITER);
+        out.print("\"Unit\"");
+        if (jdk) {
+            out.print(DELIMITER);
+            out.print("\"" + JDK + "\"");
+        }
+        for (String param : params) {
+            out.print(DELIMITER);
+            out.print("\"Param: " + param + "\"");
+        }
+        if (sample) {
+            for (String label : PERCENTILE_LABELS) {
+                out.print(DELIMITER);
+                out.print("\"Score " + label + "\"");
+            }
+        }
+        if (gc) {
+            out.print(DELIMITER);
+            out.print("\"" + ALLOC_RATE_NORM + " (B/op)\"");
+            out.print(DELIMITER);
+            out.printf("\"" + ALLOC_RATE_NORM + " Error (%.1f%%)\"", 99.9);
+            out.print(DELIMITER);
+            out.print("\"" + GC_COUNT + "\"");
+        }
+        out.print("\r\n");
+
+        for (RunResult result : results) {
+            BenchmarkParams benchmarkParams = result.getParams();
+            printLine(out, benchmarkParams.getBenchmark(), benchmarkParams, jdk, params, result.getPrimaryResult());
+            boolean percentiles = benchmarkParams.getMode() == Mode.SampleTime;
+            if (sample) {
+                Statistics statistics = result.getPrimaryResult().getStatistics();
+                for (double percentile : PERCENTILES) {
+                    out.print(DELIMITER);
+                    if (percentiles) {
+                        out.print(emit(percentile == 100.0 ? statistics.getMax() : statistics.getPercentile(percentile)));
+                    }
+                }
+            }
+            if (gc) {
+                Result<?> allocated = secondary(result, ALLOC_RATE_NORM), count = secondary(result, GC_COUNT);
+                out.print(DELIMITER);
+                // the profiler omits the allocation result entirely when nothing was allocated
+                out.print(allocated == null ? emit(0.0) : emit(allocated.getScore()));
+                out.print(DELIMITER);
+                out.print(allocated == null ? emit(Double.NaN) : emit(allocated.getScoreError()));
+                out.print(DELIMITER);
+                out.print(count == null ? "" : emit((long) count.getScore()));
+            }
+            out.print("\r\n");
+
+            for (String label : result.getSecondaryResults().keySet()) {
+                if (gc && isFolded(label) || percentiles && isPercentile(benchmarkParams, label)) {
+                    continue;
+                }
+                Result<?> secondary = result.getSecondaryResults().get(label);
+                printLine(out, benchmarkParams.getBenchmark() + ":" + secondary.getLabel(), benchmarkParams, jdk, params, secondary);
+                // keep the table rectangular, the folded columns only apply to primary rows
+                int folded = (sample ? PERCENTILES.length : 0) + (gc ? 3 : 0);
+                for (int i = 0; i < folded; i++) {
+                    out.print(DELIMITER);
+                }
+                out.print("\r\n");
+            }
+        }
+    }
+
+    private static boolean isFolded(String label) {
+        String name = label.startsWith(PREFIX) ? label.substring(PREFIX.length()) : label;
+        return name.equals(ALLOC_RATE_NORM) || name.equals(GC_COUNT);
+    }
+
+    /**
+     * Sample time results derive one secondary result per percentile, labeled like {@code method·p0.99}.
+     */
+    private static boolean isPercentile(BenchmarkParams benchmarkParams, String label) {
+        String benchmark = benchmarkParams.getBenchmark();
+        return label.startsWith(benchmark.substring(benchmark.lastIndexOf('.') + 1) + PREFIX + "p");
+    }
+
+    static Result<?> secondary(RunResult result, String name) {
+        Result<?> found = result.getSecondaryResults().get(PREFIX + name);
+        return found != null ? found : result.getSecondaryResults().get(name);
+    }
+
+    private static void printLine(PrintStream out, String label, BenchmarkParams benchmarkParams, boolean jdk, SortedSet<String> params, Result<?> result) {
+        out.print("\"");
+        out.print(label);
+        out.print("\"");
+        out.print(DELIMITER);
+        out.print("\"");
+        out.print(benchmarkParams.getMode().shortLabel());
+        out.print("\"");
+        out.print(DELIMITER);
+        out.print(emit(benchmarkParams.getThreads()));
+        out.print(DELIMITER);
+        out.print(emit(result.getSampleCount()));
+        out.print(DELIMITER);
+        out.print(emit(result.getScore()));
+        out.print(DELIMITER);
+        out.print(emit(result.getScoreError()));
+        out.print(DELIMITER);
+        out.print("\"");
+        out.print(result.getScoreUnit());
+        out.print("\"");
+        if (jdk) {
+            out.print(DELIMITER);
+            out.print(emit(benchmarkParams.getJdkVersion()));
+        }
+        for (String param : params) {
+            out.print(DELIMITER);
+            String value = benchmarkParams.getParam(param);
+            if (value != null) {
+                out.print(emit(value));
+            }
+        }
+    }
+
+    private static String emit(String value) {
+        if (value.contains(DELIMITER) || value.contains(" ") || value.contains("\n") || value.contains("\r") || value.contains("\"")) {
+            return "\"" + value.replaceAll("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private static String emit(long value) {
+        return emit(String.format("%d", value));
+    }
+
+    private static String emit(double value) {
+        return emit(String.format("%f", value));
+    }
+}
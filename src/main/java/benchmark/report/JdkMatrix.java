@@ -0,0 +1,102 @@
+package benchmark.report;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.*;
+
+/**
+ * Prints the CSVs of a run with several JDKs as one table per benchmark class, with a row per measurement and a
+ * column per JDK, such that a benchmark's development across releases can be read off a single line. Columns are
+ * ordered by version and scores are annotated with their change relative to the oldest JDK that measured them.
+ */
+public final class JdkMatrix {
+
+    private JdkMatrix() {
+        /* static only */
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1 || !new File(args[0]).isDirectory()) {
+            System.err.println("Usage: JdkMatrix <result-dir>");
+            System.exit(2);
+            return;
+        }
+        File[] results = new File(args[0]).listFiles((dir, name) -> name.endsWith(".csv"));
+        if (results == null) {
+            throw new IOException("Cannot list " + args[0]);
+        }
+        Arrays.sort(results);
+        for (File result : results) {
+            print(result, System.out);
+        }
+    }
+
+    /**
+     * Prints the table of one CSV, or nothing if its rows are not tagged with a JDK.
+     */
+    public static void print(File file, PrintStream out) throws IOException {
+        Set<String> jdks = new TreeSet<>(JdkMatrix::compare);
+        Map<String, Map<String, ResultRow>> measurements = new LinkedHashMap<>();
+        for (ResultRow row : ResultRow.read(file)) {
+            if (row.isSecondary() || row.jdk.isEmpty()) {
+                continue;
+            }
+            jdks.add(row.jdk);
+            measurements.computeIfAbsent(row.measurement(), key -> new HashMap<>()).put(row.jdk, row);
+        }
+        if (jdks.isEmpty()) {
+            return;
+        }
+
+        out.println(file.getName());
+        out.printf("  %-90s", "");
+        for (String jdk : jdks) {
+            out.printf(" %24s", jdk);
+        }
+        out.println();
+        for (Map.Entry<String, Map<String, ResultRow>> measurement : measurements.entrySet()) {
+            out.printf("  %-90s", measurement.getKey());
+            ResultRow first = null;
+            String unit = "";
+            for (String jdk : jdks) {
+                ResultRow row = measurement.getValue().get(jdk);
+                if (row == null) {
+                    out.printf(" %24s", "-");
+                } else if (first == null) {
+                    out.printf(" %24.3f", row.score);
+                    first = row;
+                    unit = row.unit;
+                } else if (row.unit.equals(first.unit)) {
+                    out.printf(" %14.3f %9s", row.score, Compare.percent(Compare.change(first.score, row.score)));
+                } else {
+                    out.printf(" %24s", String.format("%.3f %s", row.score, row.unit));
+                }
+            }
+            out.printf(" %s%n", unit);
+        }
+        out.println();
+    }
+
+    /**
+     * Orders versions numerically, reading the legacy {@code 1.8.0_392} scheme as {@code 8.0.392}.
+     */
+    static int compare(String left, String right) {
+        int[] leftParts = parts(left), rightParts = parts(right);
+        for (int i = 0; i < Math.min(leftParts.length, rightParts.length); i++) {
+            if (leftParts[i] != rightParts[i]) {
+                return Integer.compare(leftParts[i], rightParts[i]);
+            }
+        }
+        return leftParts.length != rightParts.length ? Integer.compare(leftParts.length, rightParts.length) : left.compareTo(right);
+    }
+
+    private static int[] parts(String version) {
+        String[] tokens = (version.startsWith("1.") ? version.substring(2) : version).split("\\D+");
+        int[] parts = new int[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            parts[i] = tokens[i].isEmpty() ? 0 : Integer.parseInt(tokens[i]);
+        }
+        return parts;
+    }
+}
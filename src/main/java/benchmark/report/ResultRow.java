@@ -0,0 +1,144 @@
+package benchmark.report;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * One row of a CSV written by JMH or {@link CsvReport}, keyed by everything that identifies a measurement.
+ */
+public final class ResultRow {
+
+    public final String benchmark, mode, unit;
+
+    /**
+     * The JDK version of rows merged from several JDKs, empty otherwise.
+     */
+    public final String jdk;
+
+    public final int threads, samples;
+
+    public final double score, error;
+
+    public final SortedMap<String, String> params;
+
+    public final Map<String, String> columns;
+
+    private ResultRow(Map<String, String> columns) {
+        this.columns = Collections.unmodifiableMap(columns);
+        this.benchmark = columns.get("Benchmark");
+        this.mode = columns.get("Mode");
+        this.unit = columns.get("Unit");
+        this.jdk = columns.containsKey(CsvReport.JDK) ? columns.get(CsvReport.JDK) : "";
+        this.threads = Integer.parseInt(columns.get("Threads"));
+        this.samples = Integer.parseInt(columns.get("Samples"));
+        this.score = parse(columns.get("Score"));
+        this.error = parse(columns.get("Score Error (99.9%)"));
+        SortedMap<String, String> params = new TreeMap<>();
+        for (Map.Entry<String, String> column : columns.entrySet()) {
+            if (column.getKey().startsWith("Param: ") && !column.getValue().isEmpty()) {
+                params.put(column.getKey().substring("Param: ".length()), column.getValue());
+            }
+        }
+        this.params = Collections.unmodifiableSortedMap(params);
+    }
+
+    /**
+     * Secondary results of profilers are written as rows named {@code benchmark:label}.
+     */
+    public boolean isSecondary() {
+        return benchmark.indexOf(':') >= 0;
+    }
+
+    /**
+     * Whether a lower score is better, which holds for every mode but throughput.
+     */
+    public boolean isLowerBetter() {
+        return !"thrpt".equals(mode);
+    }
+
+    public String key() {
+        return key(true);
+    }
+
+    /**
+     * The key without the JDK, which is shared by the rows of one measurement across the JDKs it was run with.
+     */
+    String measurement() {
+        return key(false);
+    }
+
+    private String key(boolean withJdk) {
+        StringBuilder key = new StringBuilder(benchmark).append(" [").append(mode);
+        if (withJdk && !jdk.isEmpty()) {
+            key.append(", jdk=").append(jdk);
+        }
+        key.append(", threads=").append(threads);
+        for (Map.Entry<String, String> param : params.entrySet()) {
+            key.append(", ").append(param.getKey()).append('=').append(param.getValue());
+        }
+        return key.append(']').toString();
+    }
+
+    private static double parse(String value) {
+        if (value == null || value.isEmpty()) {
+            return Double.NaN;
+        }
+        return Double.parseDouble(value.replace(',', '.'));
+    }
+
+    public static List<ResultRow> read(File file) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            if (line == null) {
+                return Collections.emptyList();
+            }
+            List<String> header = split(line);
+            List<ResultRow> rows = new ArrayList<>();
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                List<String> values = split(line);
+                Map<String, String> columns = new LinkedHashMap<>();
+                for (int i = 0; i < header.size(); i++) {
+                    columns.put(header.get(i), i < values.size() ? values.get(i) : "");
+                }
+                rows.add(new ResultRow(columns));
+            }
+            return rows;
+        }
+    }
+
+    static List<String> split(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
@@ -0,0 +1,121 @@
+package benchmark.scan;
+
+import benchmark.access.ClassDefiner;
+import benchmark.access.MetadataIndex;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Defines a synthetic code base of classes with generic fields and methods, half of them annotated, in a fresh
+ * {@link ClassDefiner} such that no reflection data of a previous corpus is reused. Also implements the scan that a
+ * framework would run at startup, once by reflection and once over a {@link MetadataIndex}, both computing the same
+ * checksum.
+ */
+final class Corpus {
+
+    static final int FIELDS = 4, METHODS = 8;
+
+    private static final String FIELD_SIGNATURE = "Ljava/util/List<Ljava/lang/String;>;";
+
+    private static final String METHOD_DESCRIPTOR = "(Ljava/util/List;Ljava/util/Set;)Ljava/util/Map;";
+
+    private static final String METHOD_SIGNATURE = "(Ljava/util/List<Ljava/lang/String;>;Ljava/util/Set<Ljava/lang/Long;>;)"
+        + "Ljava/util/Map<Ljava/lang/String;Ljava/util/List<Ljava/lang/Integer;>;>;";
+
+    private Corpus() {
+        /* static only */
+    }
+
+    static Class<?>[] define(int count) {
+        ClassDefiner definer = new ClassDefiner(Corpus.class.getClassLoader());
+        Class<?>[] classes = new Class<?>[count];
+        for (int i = 0; i < count; i++) {
+            String name = Corpus.class.getName() + "$Generated" + i;
+            int index = i;
+            classes[i] = definer.define(name, () -> emit(name, index));
+        }
+        return classes;
+    }
+
+    static long reflection(Class<?>[] classes) {
+        long checksum = 0;
+        for (Class<?> type : classes) {
+            if (type.isAnnotationPresent(Indexed.class)) {
+                checksum++;
+            }
+            for (Field field : type.getDeclaredFields()) {
+                if (field.isAnnotationPresent(Indexed.class)) {
+                    checksum += field.toGenericString().length();
+                }
+            }
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Route.class)) {
+                    checksum += method.toGenericString().length();
+                }
+            }
+        }
+        return checksum;
+    }
+
+    static long index(MetadataIndex index) {
+        int indexed = index.string(Indexed.class.getName()), route = index.string(Route.class.getName());
+        long checksum = 0;
+        for (int type = 0; type < index.classes(); type++) {
+            if (index.isAnnotated(type, indexed)) {
+                checksum++;
+            }
+            for (int member = 0; member < index.members(type); member++) {
+                int annotation = index.kind(type, member) == MetadataIndex.FIELD ? indexed : route;
+                if (index.isAnnotated(type, member, annotation)) {
+                    checksum += index.signature(type, member).length();
+                }
+            }
+        }
+        return checksum;
+    }
+
+    private static byte[] emit(String name, int index) {
+        String internalName = name.replace('.', '/');
+
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        writer.visit(V1_8, ACC_PUBLIC | ACC_SUPER, internalName, null, "java/lang/Object", null);
+        if (index % 2 == 0) {
+            writer.visitAnnotation(Type.getDescriptor(Indexed.class), true).visitEnd();
+        }
+
+        for (int i = 0; i < FIELDS; i++) {
+            FieldVisitor field = writer.visitField(ACC_PRIVATE, "field" + i, "Ljava/util/List;", FIELD_SIGNATURE, null);
+            if (i % 2 == 0) {
+                field.visitAnnotation(Type.getDescriptor(Indexed.class), true).visitEnd();
+            }
+            field.visitEnd();
+        }
+
+        ClassDefiner.emitConstructor(writer, "java/lang/Object");
+
+        for (int i = 0; i < METHODS; i++) {
+            MethodVisitor method = writer.visitMethod(ACC_PUBLIC, "method" + i, METHOD_DESCRIPTOR, METHOD_SIGNATURE, null);
+            if (i % 2 == 0) {
+                AnnotationVisitor route = method.visitAnnotation(Type.getDescriptor(Route.class), true);
+                route.visit("value", "/" + index + "/" + i);
+                route.visitEnd();
+            }
+            method.visitCode();
+            method.visitInsn(ACONST_NULL);
+            method.visitInsn(ARETURN);
+            method.visitMaxs(0, 0);
+            method.visitEnd();
+        }
+
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+}
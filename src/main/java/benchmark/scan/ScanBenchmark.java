@@ -0,0 +1,62 @@
+package benchmark.scan;
+
+import benchmark.access.MetadataIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repeats the startup scan of {@link Corpus} once reflection caches and annotations are populated and once the index
+ * is mapped, see {@link ScanColdBenchmark} for the first scan.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScanBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    private int classes;
+
+    private Class<?>[] corpus;
+
+    private MetadataIndex index, indexMapped;
+
+    private File file;
+
+    @Setup
+    public void setup() throws Exception {
+        corpus = Corpus.define(classes);
+        index = MetadataIndex.build(Arrays.asList(corpus));
+        file = File.createTempFile("metadata", ".idx");
+        index.write(file);
+        indexMapped = MetadataIndex.map(file);
+        if (Corpus.reflection(corpus) != Corpus.index(indexMapped)) {
+            throw new AssertionError();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        indexMapped = null;
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    @Benchmark
+    public long reflection() {
+        return Corpus.reflection(corpus);
+    }
+
+    @Benchmark
+    public long index() {
+        return Corpus.index(index);
+    }
+
+    @Benchmark
+    public long indexMapped() {
+        return Corpus.index(indexMapped);
+    }
+}
@@ -0,0 +1,97 @@
+package benchmark.scan;
+
+import benchmark.access.MetadataIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the first scan of a freshly loaded {@link Corpus} in a fresh JVM, by reflection and by mapping an index
+ * that was written ahead of time, as a framework would at startup. Defining the corpus is not measured.
+ * <p>
+ * Next to the time, {@link Footprint} reports how much heap is still retained after the scan once garbage was
+ * collected, i.e. the reflection data and parsed annotations that the JVM caches. The mapped index lives off-heap
+ * and is reported separately as the size of its file.
+ * <p>
+ * The index is only built in the fork of {@link #index}, since building it reflects over a corpus and would warm up
+ * the reflection and annotation parsing that {@link #reflection} is meant to hit cold.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(10)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class ScanColdBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    private int classes;
+
+    private Class<?>[] corpus;
+
+    private File file;
+
+    private MetadataIndex index;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Footprint {
+
+        public long retainedBytes, mappedBytes;
+
+        private long baseline;
+
+        @Setup(Level.Invocation)
+        public void setup() {
+            baseline = retained();
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            retainedBytes = retained() - baseline;
+        }
+
+        private static long retained() {
+            MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+            for (int i = 0; i < 3; i++) {
+                System.gc();
+            }
+            return memory.getHeapMemoryUsage().getUsed();
+        }
+    }
+
+    @Setup
+    public void setup(BenchmarkParams params) throws Exception {
+        if (params.getBenchmark().endsWith(".index")) {
+            file = File.createTempFile("metadata", ".idx");
+            MetadataIndex.build(Arrays.asList(Corpus.define(classes))).write(file);
+        } else {
+            corpus = Corpus.define(classes);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        index = null;
+        if (file != null && !file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    @Benchmark
+    public long reflection(Footprint footprint) {
+        return Corpus.reflection(corpus);
+    }
+
+    @Benchmark
+    public long index(Footprint footprint) throws Exception {
+        index = MetadataIndex.map(file);
+        footprint.mappedBytes = index.size();
+        return Corpus.index(index);
+    }
+}
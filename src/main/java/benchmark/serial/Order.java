@@ -0,0 +1,64 @@
+package benchmark.serial;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An object graph with primitives, strings, a nested object and lists of strings and of nested objects.
+ */
+public class Order {
+
+    long id;
+
+    String customer;
+
+    boolean paid;
+
+    double total;
+
+    Address shipping;
+
+    List<Line> lines;
+
+    List<String> tags;
+
+    public static class Address {
+
+        String street, city;
+
+        int zip;
+    }
+
+    public static class Line {
+
+        String sku;
+
+        int quantity;
+
+        long price;
+    }
+
+    static Order create(int lines) {
+        Order order = new Order();
+        order.id = 4711;
+        order.customer = "Jane Doe";
+        order.paid = true;
+        order.shipping = new Address();
+        order.shipping.street = "Main Street 1";
+        order.shipping.city = "Springfield";
+        order.shipping.zip = 12345;
+        order.lines = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            Line line = new Line();
+            line.sku = "SKU-" + i;
+            line.quantity = i + 1;
+            line.price = 100L * i;
+            order.lines.add(line);
+            order.total += line.quantity * line.price;
+        }
+        order.tags = new ArrayList<>();
+        order.tags.add("express");
+        order.tags.add("gift");
+        return order;
+    }
+}
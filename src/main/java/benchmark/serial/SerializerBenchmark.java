@@ -0,0 +1,135 @@
+package benchmark.serial;
+
+import benchmark.access.Serializer;
+import benchmark.access.Serializers;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes an {@link Order} with a number of lines into a reused direct buffer. The score is serialized orders per
+ * second, {@link Output} additionally reports the written bytes per second.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SerializerBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int lines;
+
+    private Order order;
+
+    private ByteBuffer buffer;
+
+    private Serializer
+        reflective,
+        handles,
+        composed;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Output {
+
+        public long bytes;
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        order = Order.create(lines);
+        buffer = ByteBuffer.allocateDirect(1 << 20);
+
+        reflective = Serializers.reflective();
+        handles = Serializers.handles(MethodHandles.lookup());
+        composed = Serializers.composed(MethodHandles.lookup(), Order.class);
+
+        buffer.clear();
+        normal(order, buffer);
+        ByteBuffer expected = copy(buffer);
+        for (Serializer serializer : new Serializer[] {reflective, handles, composed}) {
+            buffer.clear();
+            serializer.write(order, buffer);
+            if (!copy(buffer).equals(expected)) {
+                throw new AssertionError("Serializers disagree");
+            }
+        }
+    }
+
+    private static ByteBuffer copy(ByteBuffer buffer) {
+        ByteBuffer copy = ByteBuffer.allocate(buffer.position());
+        buffer.flip();
+        copy.put(buffer);
+        copy.flip();
+        return copy;
+    }
+
+    @Benchmark
+    public Object normal(Output output) {
+        buffer.clear();
+        normal(order, buffer);
+        output.bytes += buffer.position();
+        return buffer;
+    }
+
+    @Benchmark
+    public Object reflection(Output output) {
+        return write(reflective, output);
+    }
+
+    @Benchmark
+    public Object handle(Output output) {
+        return write(handles, output);
+    }
+
+    @Benchmark
+    public Object composed(Output output) {
+        return write(composed, output);
+    }
+
+    private Object write(Serializer serializer, Output output) {
+        buffer.clear();
+        serializer.write(order, buffer);
+        output.bytes += buffer.position();
+        return buffer;
+    }
+
+    /**
+     * The format of {@link Serializers} written by hand, fields sorted by name.
+     */
+    private static void normal(Order order, ByteBuffer buffer) {
+        buffer.put((byte) 1);
+        string(order.customer, buffer);
+        buffer.putLong(order.id);
+        List<Order.Line> lines = order.lines;
+        buffer.putInt(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            Order.Line line = lines.get(i);
+            buffer.put((byte) 1);
+            buffer.putLong(line.price);
+            buffer.putInt(line.quantity);
+            string(line.sku, buffer);
+        }
+        buffer.put(order.paid ? (byte) 1 : (byte) 0);
+        Order.Address shipping = order.shipping;
+        buffer.put((byte) 1);
+        string(shipping.city, buffer);
+        string(shipping.street, buffer);
+        buffer.putInt(shipping.zip);
+        List<String> tags = order.tags;
+        buffer.putInt(tags.size());
+        for (int i = 0; i < tags.size(); i++) {
+            string(tags.get(i), buffer);
+        }
+        buffer.putDouble(order.total);
+    }
+
+    private static void string(String value, ByteBuffer buffer) {
+        buffer.putInt(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            buffer.putChar(value.charAt(i));
+        }
+    }
+}
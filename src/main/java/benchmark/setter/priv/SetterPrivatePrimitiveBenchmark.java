@@ -0,0 +1,130 @@
+package benchmark.setter.priv;
+
+import benchmark.access.AccessorGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SetterPrivatePrimitiveBenchmark {
+
+    enum Access {
+
+        INSTANCE;
+
+        private int value = 42;
+
+        private final int finalValue = 42;
+    }
+
+    private int newValue = 43;
+
+    @FunctionalInterface
+    interface CustomSetter<E> {
+        void set(E target, int value);
+    }
+
+    private Field
+        reflectiveAccessible,
+        reflectiveFinal;
+
+    private MethodHandle
+        methodHandleUnreflected,
+        methodHandleUnreflectedFinal;
+
+    private CustomSetter<Access>
+        generated;
+
+    private static final MethodHandle
+        METHOD_HANDLE_UNREFLECTED;
+
+    private static final CustomSetter<Access>
+        GENERATED_INLINE;
+
+    static {
+        try {
+            Field reflectiveAccessiblePrivate = Access.class.getDeclaredField("value");
+            reflectiveAccessiblePrivate.setAccessible(true);
+            METHOD_HANDLE_UNREFLECTED = MethodHandles.lookup().unreflectSetter(reflectiveAccessiblePrivate);
+            GENERATED_INLINE = AccessorGenerator.setter(MethodHandles.lookup(), CustomSetter.class, reflectiveAccessiblePrivate);
+        } catch (Exception e) {
+            throw new AssertionError();
+        }
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        reflectiveAccessible = Access.class.getDeclaredField("value");
+        reflectiveAccessible.setAccessible(true);
+        reflectiveFinal = Access.class.getDeclaredField("finalValue");
+        reflectiveFinal.setAccessible(true);
+        methodHandleUnreflected = MethodHandles.lookup().unreflectSetter(reflectiveAccessible);
+        methodHandleUnreflectedFinal = MethodHandles.lookup().unreflectSetter(reflectiveFinal);
+        generated = AccessorGenerator.setter(MethodHandles.lookup(), CustomSetter.class, reflectiveAccessible);
+    }
+
+    @Benchmark
+    public void normal() {
+        Access.INSTANCE.value = newValue; // accessor method
+    }
+
+    @Benchmark
+    public void reflectionAccessible() throws IllegalAccessException {
+        reflectiveAccessible.setInt(Access.INSTANCE, newValue);
+    }
+
+    @Benchmark
+    public void reflectionBoxed() throws IllegalAccessException {
+        reflectiveAccessible.set(Access.INSTANCE, newValue);
+    }
+
+    @Benchmark
+    public void handleUnreflected() throws Throwable {
+        methodHandleUnreflected.invoke(Access.INSTANCE, newValue);
+    }
+
+    @Benchmark
+    public void handleUnreflectedExact() throws Throwable {
+        methodHandleUnreflected.invokeExact(Access.INSTANCE, newValue);
+    }
+
+    @Benchmark
+    public void handleUnreflectedInline() throws Throwable {
+        METHOD_HANDLE_UNREFLECTED.invoke(Access.INSTANCE, newValue);
+    }
+
+    @Benchmark
+    public void handleUnreflectedExactInline() throws Throwable {
+        METHOD_HANDLE_UNREFLECTED.invokeExact(Access.INSTANCE, newValue);
+    }
+
+    @Benchmark
+    public void reflectionFinal() throws IllegalAccessException {
+        reflectiveFinal.setInt(Access.INSTANCE, newValue);
+    }
+
+    @Benchmark
+    public void handleUnreflectedFinal() throws Throwable {
+        methodHandleUnreflectedFinal.invoke(Access.INSTANCE, newValue);
+    }
+
+    @Benchmark
+    public void handleUnreflectedFinalExact() throws Throwable {
+        methodHandleUnreflectedFinal.invokeExact(Access.INSTANCE, newValue);
+    }
+
+    @Benchmark
+    public void generated() {
+        generated.set(Access.INSTANCE, newValue);
+    }
+
+    @Benchmark
+    public void generatedInline() {
+        GENERATED_INLINE.set(Access.INSTANCE, newValue);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,103 @@
+package benchmark.setter.priv;
+
+import benchmark.access.AccessorGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SetterPrivateStaticBenchmark {
+
+    enum Access {
+
+        INSTANCE;
+
+        private static String value = "foo";
+    }
+
+    private String newValue = "bar";
+
+    @FunctionalInterface
+    interface CustomSetter<T> {
+        void set(T value);
+    }
+
+    private Field
+        reflectiveAccessible;
+
+    private MethodHandle
+        methodHandleUnreflected;
+
+    private CustomSetter<String>
+        generated;
+
+    private static final MethodHandle
+        METHOD_HANDLE_UNREFLECTED;
+
+    private static final CustomSetter<String>
+        GENERATED_INLINE;
+
+    static {
+        try {
+            Field reflectiveAccessiblePrivate = Access.class.getDeclaredField("value");
+            reflectiveAccessiblePrivate.setAccessible(true);
+            METHOD_HANDLE_UNREFLECTED = MethodHandles.lookup().unreflectSetter(reflectiveAccessiblePrivate);
+            GENERATED_INLINE = AccessorGenerator.setter(MethodHandles.lookup(), CustomSetter.class, reflectiveAccessiblePrivate);
+        } catch (Exception e) {
+            throw new AssertionError();
+        }
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        reflectiveAccessible = Access.class.getDeclaredField("value");
+        reflectiveAccessible.setAccessible(true);
+        methodHandleUnreflected = MethodHandles.lookup().unreflectSetter(reflectiveAccessible);
+        generated = AccessorGenerator.setter(MethodHandles.lookup(), CustomSetter.class, reflectiveAccessible);
+    }
+
+    @Benchmark
+    public void normal() {
+        Access.value = newValue; // accessor method
+    }
+
+    @Benchmark
+    public void reflectionAccessible() throws IllegalAccessException {
+        reflectiveAccessible.set(null, newValue);
+    }
+
+    @Benchmark
+    public void handleUnreflected() throws Throwable {
+        methodHandleUnreflected.invoke(newValue);
+    }
+
+    @Benchmark
+    public void handleUnreflectedExact() throws Throwable {
+        methodHandleUnreflected.invokeExact(newValue);
+    }
+
+    @Benchmark
+    public void handleUnreflectedInline() throws Throwable {
+        METHOD_HANDLE_UNREFLECTED.invoke(newValue);
+    }
+
+    @Benchmark
+    public void handleUnreflectedExactInline() throws Throwable {
+        METHOD_HANDLE_UNREFLECTED.invokeExact(newValue);
+    }
+
+    @Benchmark
+    public void generated() {
+        generated.set(newValue);
+    }
+
+    @Benchmark
+    public void generatedInline() {
+        GENERATED_INLINE.set(newValue);
+    }
+}
\ No newline at end of file
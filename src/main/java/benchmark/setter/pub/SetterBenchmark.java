@@ -0,0 +1,149 @@
+package benchmark.setter.pub;
+
+import benchmark.access.AccessorGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SetterBenchmark {
+
+    public String value = "foo";
+
+    public final String finalValue = "foo";
+
+    private String newValue = "bar";
+
+    @FunctionalInterface
+    interface CustomSetter<T, E> {
+        void set(E target, T value);
+    }
+
+    private Field
+        reflective,
+        reflectiveAccessible,
+        reflectiveFinal;
+
+    private MethodHandle
+        methodHandle,
+        methodHandleUnreflected,
+        methodHandleUnreflectedFinal;
+
+    private CustomSetter<String, SetterBenchmark>
+        generated;
+
+    private static final MethodHandle
+        METHOD_HANDLE_INLINE,
+        METHOD_HANDLE_UNREFLECTED_INLINE;
+
+    private static final CustomSetter<String, SetterBenchmark>
+        GENERATED_INLINE;
+
+    static {
+        try {
+            METHOD_HANDLE_INLINE = MethodHandles.lookup().findSetter(SetterBenchmark.class, "value", String.class);
+            METHOD_HANDLE_UNREFLECTED_INLINE = MethodHandles.lookup().unreflectSetter(SetterBenchmark.class.getDeclaredField("value"));
+            GENERATED_INLINE = AccessorGenerator.setter(MethodHandles.lookup(), CustomSetter.class, SetterBenchmark.class.getDeclaredField("value"));
+        } catch (Exception e) {
+            throw new AssertionError();
+        }
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        reflective = SetterBenchmark.class.getDeclaredField("value");
+        reflectiveAccessible = SetterBenchmark.class.getDeclaredField("value");
+        reflectiveAccessible.setAccessible(true);
+        reflectiveFinal = SetterBenchmark.class.getDeclaredField("finalValue");
+        reflectiveFinal.setAccessible(true);
+        methodHandle = MethodHandles.lookup().findSetter(SetterBenchmark.class, "value", String.class);
+        methodHandleUnreflected = MethodHandles.lookup().unreflectSetter(reflective);
+        methodHandleUnreflectedFinal = MethodHandles.lookup().unreflectSetter(reflectiveFinal);
+        generated = AccessorGenerator.setter(MethodHandles.lookup(), CustomSetter.class, reflective);
+    }
+
+    @Benchmark
+    public void normal() {
+        value = newValue;
+    }
+
+    @Benchmark
+    public void reflection() throws IllegalAccessException {
+        reflective.set(this, newValue);
+    }
+
+    @Benchmark
+    public void reflectionAccessible() throws IllegalAccessException {
+        reflectiveAccessible.set(this, newValue);
+    }
+
+    @Benchmark
+    public void handle() throws Throwable {
+        methodHandle.invoke(this, newValue);
+    }
+
+    @Benchmark
+    public void handleExact() throws Throwable {
+        methodHandle.invokeExact(this, newValue);
+    }
+
+    @Benchmark
+    public void handleUnreflected() throws Throwable {
+        methodHandleUnreflected.invoke(this, newValue);
+    }
+
+    @Benchmark
+    public void handleUnreflectedExact() throws Throwable {
+        methodHandleUnreflected.invokeExact(this, newValue);
+    }
+
+    @Benchmark
+    public void handleInline() throws Throwable {
+        METHOD_HANDLE_INLINE.invoke(this, newValue);
+    }
+
+    @Benchmark
+    public void handleExactInline() throws Throwable {
+        METHOD_HANDLE_INLINE.invokeExact(this, newValue);
+    }
+
+    @Benchmark
+    public void handleUnreflectedInline() throws Throwable {
+        METHOD_HANDLE_UNREFLECTED_INLINE.invoke(this, newValue);
+    }
+
+    @Benchmark
+    public void handleUnreflectedExactInline() throws Throwable {
+        METHOD_HANDLE_UNREFLECTED_INLINE.invokeExact(this, newValue);
+    }
+
+    @Benchmark
+    public void reflectionFinal() throws IllegalAccessException {
+        reflectiveFinal.set(this, newValue);
+    }
+
+    @Benchmark
+    public void handleUnreflectedFinal() throws Throwable {
+        methodHandleUnreflectedFinal.invoke(this, newValue);
+    }
+
+    @Benchmark
+    public void handleUnreflectedFinalExact() throws Throwable {
+        methodHandleUnreflectedFinal.invokeExact(this, newValue);
+    }
+
+    @Benchmark
+    public void generated() {
+        generated.set(this, newValue);
+    }
+
+    @Benchmark
+    public void generatedInline() {
+        GENERATED_INLINE.set(this, newValue);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,132 @@
+package benchmark.setter.pub;
+
+import benchmark.access.AccessorGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SetterPrimitiveStaticBenchmark {
+
+    public static int value = 42;
+
+    private int newValue = 43;
+
+    @FunctionalInterface
+    interface CustomSetter {
+        void set(int value);
+    }
+
+    private Field
+        reflective,
+        reflectiveAccessible;
+
+    private MethodHandle
+        methodHandle,
+        methodHandleUnreflected;
+
+    private CustomSetter
+        generated;
+
+    private static final MethodHandle
+        METHOD_HANDLE_INLINE,
+        METHOD_HANDLE_UNREFLECTED_INLINE;
+
+    private static final CustomSetter
+        GENERATED_INLINE;
+
+    static {
+        try {
+            METHOD_HANDLE_INLINE = MethodHandles.lookup().findStaticSetter(SetterPrimitiveStaticBenchmark.class, "value", int.class);
+            METHOD_HANDLE_UNREFLECTED_INLINE = MethodHandles.lookup().unreflectSetter(SetterPrimitiveStaticBenchmark.class.getDeclaredField("value"));
+            GENERATED_INLINE = AccessorGenerator.setter(MethodHandles.lookup(), CustomSetter.class, SetterPrimitiveStaticBenchmark.class.getDeclaredField("value"));
+        } catch (Exception e) {
+            throw new AssertionError();
+        }
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        reflective = SetterPrimitiveStaticBenchmark.class.getDeclaredField("value");
+        reflectiveAccessible = SetterPrimitiveStaticBenchmark.class.getDeclaredField("value");
+        reflectiveAccessible.setAccessible(true);
+        methodHandle = MethodHandles.lookup().findStaticSetter(SetterPrimitiveStaticBenchmark.class, "value", int.class);
+        methodHandleUnreflected = MethodHandles.lookup().unreflectSetter(reflective);
+        generated = AccessorGenerator.setter(MethodHandles.lookup(), CustomSetter.class, reflective);
+    }
+
+    @Benchmark
+    public void normal() {
+        value = newValue;
+    }
+
+    @Benchmark
+    public void reflection() throws IllegalAccessException {
+        reflective.setInt(null, newValue);
+    }
+
+    @Benchmark
+    public void reflectionAccessible() throws IllegalAccessException {
+        reflectiveAccessible.setInt(null, newValue);
+    }
+
+    @Benchmark
+    public void reflectionBoxed() throws IllegalAccessException {
+        reflectiveAccessible.set(null, newValue);
+    }
+
+    @Benchmark
+    public void handle() throws Throwable {
+        methodHandle.invoke(newValue);
+    }
+
+    @Benchmark
+    public void handleExact() throws Throwable {
+        methodHandle.invokeExact(newValue);
+    }
+
+    @Benchmark
+    public void handleUnreflected() throws Throwable {
+        methodHandleUnreflected.invoke(newValue);
+    }
+
+    @Benchmark
+    public void handleUnreflectedExact() throws Throwable {
+        methodHandleUnreflected.invokeExact(newValue);
+    }
+
+    @Benchmark
+    public void handleInline() throws Throwable {
+        METHOD_HANDLE_INLINE.invoke(newValue);
+    }
+
+    @Benchmark
+    public void handleExactInline() throws Throwable {
+        METHOD_HANDLE_INLINE.invokeExact(newValue);
+    }
+
+    @Benchmark
+    public void handleUnreflectedInline() throws Throwable {
+        METHOD_HANDLE_UNREFLECTED_INLINE.invoke(newValue);
+    }
+
+    @Benchmark
+    public void handleUnreflectedExactInline() throws Throwable {
+        METHOD_HANDLE_UNREFLECTED_INLINE.invokeExact(newValue);
+    }
+
+    @Benchmark
+    public void generated() {
+        generated.set(newValue);
+    }
+
+    @Benchmark
+    public void generatedInline() {
+        GENERATED_INLINE.set(newValue);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,138 @@
+package benchmark.spin;
+
+import benchmark.access.AccessorGenerator;
+import benchmark.access.ClassDefiner;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures creating one accessor for each of many distinct {@link Targets} in a fresh JVM, as a framework would at
+ * startup, without invoking them. Resolving the targets is not measured.
+ * <p>
+ * Next to the time, {@link Metaspace} reports the metaspace that every accessor occupies on average. Method handles
+ * spin their lambda forms lazily, {@code handleInvoked} therefore also calls every handle once.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(5)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class AccessorSpinBenchmark {
+
+    @Param({"1000", "10000"})
+    private int targets;
+
+    private MethodType invokedType = MethodType.methodType(CustomFunction.class), erasedType = MethodType.methodType(void.class, Object.class);
+
+    @FunctionalInterface
+    public interface CustomFunction<E> {
+        void run(E target);
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Metaspace {
+
+        public long metaspaceBytesPerAccessor;
+
+        private Method[] methods;
+
+        private MethodHandles.Lookup[] lookups;
+
+        private Object[] instances, accessors;
+
+        private long used;
+
+        @Setup(Level.Invocation)
+        public void setup(BenchmarkParams params) throws Exception {
+            methods = Targets.define(Integer.parseInt(params.getParam("targets")));
+            lookups = new MethodHandles.Lookup[methods.length];
+            instances = new Object[methods.length];
+            accessors = new Object[methods.length];
+            for (int i = 0; i < methods.length; i++) {
+                Class<?> type = methods[i].getDeclaringClass();
+                if (i % Targets.METHODS == 0) {
+                    lookups[i] = ClassDefiner.lookup(type);
+                    instances[i] = type.getConstructor().newInstance();
+                } else {
+                    lookups[i] = lookups[i - 1];
+                    instances[i] = instances[i - 1];
+                }
+            }
+            used = used();
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            metaspaceBytesPerAccessor = (used() - used) / methods.length;
+            methods = null;
+            lookups = null;
+            instances = null;
+            accessors = null;
+        }
+
+        private static long used() {
+            long used = 0;
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.NON_HEAP && (pool.getName().contains("Metaspace") || pool.getName().contains("Class Space"))) {
+                    used += pool.getUsage().getUsed();
+                }
+            }
+            return used;
+        }
+    }
+
+    @Benchmark
+    public Object lambda(Metaspace metaspace) throws Throwable {
+        for (int i = 0; i < metaspace.methods.length; i++) {
+            MethodHandle handle = metaspace.lookups[i].unreflect(metaspace.methods[i]);
+            CallSite lambdaSite = LambdaMetafactory.metafactory(
+                metaspace.lookups[i],
+                "run",
+                invokedType,
+                erasedType,
+                handle,
+                handle.type());
+            metaspace.accessors[i] = (CustomFunction<?>) lambdaSite.getTarget().invokeExact();
+        }
+        return metaspace.accessors;
+    }
+
+    @Benchmark
+    public Object hiddenClass(Metaspace metaspace) throws Exception {
+        for (int i = 0; i < metaspace.methods.length; i++) {
+            metaspace.accessors[i] = AccessorGenerator.method(metaspace.lookups[i], CustomFunction.class, metaspace.methods[i]);
+        }
+        return metaspace.accessors;
+    }
+
+    @Benchmark
+    public Object handle(Metaspace metaspace) throws Exception {
+        for (int i = 0; i < metaspace.methods.length; i++) {
+            metaspace.accessors[i] = metaspace.lookups[i].unreflect(metaspace.methods[i]).asType(erasedType);
+        }
+        return metaspace.accessors;
+    }
+
+    @Benchmark
+    public Object handleInvoked(Metaspace metaspace) throws Throwable {
+        for (int i = 0; i < metaspace.methods.length; i++) {
+            MethodHandle handle = metaspace.lookups[i].unreflect(metaspace.methods[i]).asType(erasedType);
+            handle.invokeExact(metaspace.instances[i]);
+            metaspace.accessors[i] = handle;
+        }
+        return metaspace.accessors;
+    }
+}
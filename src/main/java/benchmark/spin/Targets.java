@@ -0,0 +1,59 @@
+package benchmark.spin;
+
+import benchmark.access.ClassDefiner;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+
+import java.lang.reflect.Method;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Defines any number of distinct target methods, spread over classes of {@link #METHODS} methods each, in a fresh
+ * {@link ClassDefiner}. Every class gets its own {@code lookup()} such that accessors can be defined next to their
+ * target.
+ */
+final class Targets {
+
+    static final int METHODS = 100;
+
+    private Targets() {
+        /* static only */
+    }
+
+    /**
+     * Returns the declared methods {@code method0} to {@code method99} of as many classes as required.
+     */
+    static Method[] define(int count) throws ReflectiveOperationException {
+        ClassDefiner definer = new ClassDefiner(Targets.class.getClassLoader());
+        Method[] methods = new Method[count];
+        for (int i = 0; i < count; i += METHODS) {
+            String name = Targets.class.getName() + "$Generated" + i / METHODS;
+            Class<?> type = definer.define(name, () -> emit(name));
+            for (int j = i; j < Math.min(count, i + METHODS); j++) {
+                methods[j] = type.getMethod("method" + (j - i));
+            }
+        }
+        return methods;
+    }
+
+    private static byte[] emit(String name) {
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        writer.visit(V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, name.replace('.', '/'), null, "java/lang/Object", null);
+
+        ClassDefiner.emitConstructor(writer, "java/lang/Object");
+
+        for (int i = 0; i < METHODS; i++) {
+            MethodVisitor method = writer.visitMethod(ACC_PUBLIC, "method" + i, "()V", null, null);
+            method.visitCode();
+            method.visitInsn(RETURN);
+            method.visitMaxs(0, 0);
+            method.visitEnd();
+        }
+
+        ClassDefiner.emitLookup(writer);
+
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+}
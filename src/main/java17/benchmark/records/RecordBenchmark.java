@@ -0,0 +1,179 @@
+package benchmark.records;
+
+import benchmark.access.AccessorGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads the component of a record, comparable to reading a field in {@code FieldBenchmark} and to invoking a method
+ * in {@code InvocationBenchmark}. Components are read through their accessor method, which is what
+ * {@link Class#getRecordComponents()} exposes, or through the private final field that backs them, which can still be
+ * read reflectively but no longer be written.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RecordBenchmark {
+
+    public record Value(String value) {
+    }
+
+    private Value value = new Value("foo");
+
+    @FunctionalInterface
+    interface CustomGetter<T, E> {
+        T get(E target);
+    }
+
+    private Method
+        accessor,
+        accessorAccessible;
+
+    private Field fieldAccessible;
+
+    private MethodHandle
+        methodHandle,
+        methodHandleUnreflected,
+        methodHandleGetter;
+
+    private CustomGetter<String, Value>
+        lambda,
+        generated;
+
+    private static final MethodHandle
+        METHOD_HANDLE_INLINE,
+        METHOD_HANDLE_UNREFLECTED_INLINE;
+
+    private static final CustomGetter<String, Value>
+        GENERATED_INLINE;
+
+    static {
+        try {
+            Method accessor = Value.class.getRecordComponents()[0].getAccessor();
+            METHOD_HANDLE_INLINE = MethodHandles.lookup().findVirtual(Value.class, "value", MethodType.methodType(String.class));
+            METHOD_HANDLE_UNREFLECTED_INLINE = MethodHandles.lookup().unreflect(accessor);
+            GENERATED_INLINE = AccessorGenerator.method(MethodHandles.lookup(), CustomGetter.class, accessor);
+        } catch (Exception e) {
+            throw new AssertionError();
+        }
+    }
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() throws Throwable {
+        accessor = Value.class.getRecordComponents()[0].getAccessor();
+        accessorAccessible = Value.class.getRecordComponents()[0].getAccessor();
+        accessorAccessible.setAccessible(true);
+        fieldAccessible = Value.class.getDeclaredField("value");
+        fieldAccessible.setAccessible(true);
+        try {
+            fieldAccessible.set(value, "bar");
+            throw new AssertionError("Record fields must not be writable");
+        } catch (IllegalAccessException e) {
+            /* expected */
+        }
+        methodHandle = MethodHandles.lookup().findVirtual(Value.class, "value", MethodType.methodType(String.class));
+        methodHandleUnreflected = MethodHandles.lookup().unreflect(accessor);
+        methodHandleGetter = MethodHandles.lookup().findGetter(Value.class, "value", String.class);
+
+        CallSite lambdaSite = LambdaMetafactory.metafactory(
+            MethodHandles.lookup(),
+            "get",
+            MethodType.methodType(CustomGetter.class),
+            MethodType.methodType(Object.class, Object.class),
+            methodHandle,
+            MethodType.methodType(String.class, Value.class));
+        lambda = (CustomGetter<String, Value>) lambdaSite.getTarget().invokeExact();
+
+        generated = AccessorGenerator.method(MethodHandles.lookup(), CustomGetter.class, accessor);
+    }
+
+    @Benchmark
+    public Object normal() {
+        return value.value();
+    }
+
+    @Benchmark
+    public Object reflection() throws Exception {
+        return accessor.invoke(value);
+    }
+
+    @Benchmark
+    public Object reflectionAccessible() throws Exception {
+        return accessorAccessible.invoke(value);
+    }
+
+    @Benchmark
+    public Object reflectionField() throws Exception {
+        return fieldAccessible.get(value);
+    }
+
+    @Benchmark
+    public Object handle() throws Throwable {
+        return methodHandle.invoke(value);
+    }
+
+    @Benchmark
+    public Object handleExact() throws Throwable {
+        return (String) methodHandle.invokeExact(value);
+    }
+
+    @Benchmark
+    public Object handleUnreflected() throws Throwable {
+        return methodHandleUnreflected.invoke(value);
+    }
+
+    @Benchmark
+    public Object handleUnreflectedExact() throws Throwable {
+        return (String) methodHandleUnreflected.invokeExact(value);
+    }
+
+    @Benchmark
+    public Object handleGetter() throws Throwable {
+        return methodHandleGetter.invoke(value);
+    }
+
+    @Benchmark
+    public Object handleGetterExact() throws Throwable {
+        return (String) methodHandleGetter.invokeExact(value);
+    }
+
+    @Benchmark
+    public Object lambda() {
+        return lambda.get(value);
+    }
+
+    @Benchmark
+    public Object handleInline() throws Throwable {
+        return METHOD_HANDLE_INLINE.invoke(value);
+    }
+
+    @Benchmark
+    public Object handleExactInline() throws Throwable {
+        return (String) METHOD_HANDLE_INLINE.invokeExact(value);
+    }
+
+    @Benchmark
+    public Object handleUnreflectedInline() throws Throwable {
+        return METHOD_HANDLE_UNREFLECTED_INLINE.invoke(value);
+    }
+
+    @Benchmark
+    public Object handleUnreflectedExactInline() throws Throwable {
+        return (String) METHOD_HANDLE_UNREFLECTED_INLINE.invokeExact(value);
+    }
+
+    @Benchmark
+    public Object generated() {
+        return generated.get(value);
+    }
+
+    @Benchmark
+    public Object generatedInline() {
+        return GENERATED_INLINE.get(value);
+    }
+}
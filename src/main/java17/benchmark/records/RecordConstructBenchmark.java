@@ -0,0 +1,170 @@
+package benchmark.records;
+
+import benchmark.access.AccessorGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Reconstructs a record from the components of another instance through its canonical constructor, as a framework
+ * does instead of writing fields since those of a record are final. Comparable to {@code ConstructBenchmark} with an
+ * arity of four, plus reading four components.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RecordConstructBenchmark {
+
+    public record Value(String a, String b, String c, String d) {
+    }
+
+    private Value value = new Value("foo", "bar", "qux", "baz");
+
+    @FunctionalInterface
+    interface CustomFactory {
+        Value create(String a, String b, String c, String d);
+    }
+
+    private Method[]
+        accessors,
+        accessorsAccessible;
+
+    private Constructor<Value>
+        constructor,
+        constructorAccessible;
+
+    private MethodHandle methodHandle;
+
+    private Function<Value, String>[]
+        lambdas,
+        generated;
+
+    private CustomFactory
+        lambdaFactory,
+        generatedFactory;
+
+    private static final MethodHandle
+        METHOD_HANDLE_INLINE;
+
+    static {
+        try {
+            METHOD_HANDLE_INLINE = reconstruct(MethodHandles.lookup());
+        } catch (Exception e) {
+            throw new AssertionError();
+        }
+    }
+
+    /**
+     * The canonical constructor with every parameter filtered through its component's accessor, of type
+     * {@code (Value)Value}.
+     */
+    private static MethodHandle reconstruct(MethodHandles.Lookup lookup) throws ReflectiveOperationException {
+        RecordComponent[] components = Value.class.getRecordComponents();
+        MethodHandle[] accessors = new MethodHandle[components.length];
+        Class<?>[] types = new Class<?>[components.length];
+        for (int i = 0; i < components.length; i++) {
+            accessors[i] = lookup.unreflect(components[i].getAccessor());
+            types[i] = components[i].getType();
+        }
+        MethodHandle constructor = lookup.findConstructor(Value.class, MethodType.methodType(void.class, types));
+        return MethodHandles.permuteArguments(MethodHandles.filterArguments(constructor, 0, accessors),
+                                              MethodType.methodType(Value.class, Value.class), new int[components.length]);
+    }
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() throws Throwable {
+        RecordComponent[] components = Value.class.getRecordComponents();
+        Class<?>[] types = new Class<?>[components.length];
+        accessors = new Method[components.length];
+        accessorsAccessible = new Method[components.length];
+        lambdas = (Function<Value, String>[]) new Function<?, ?>[components.length];
+        generated = (Function<Value, String>[]) new Function<?, ?>[components.length];
+        for (int i = 0; i < components.length; i++) {
+            types[i] = components[i].getType();
+            accessors[i] = components[i].getAccessor();
+            accessorsAccessible[i] = Value.class.getMethod(components[i].getName());
+            accessorsAccessible[i].setAccessible(true);
+
+            MethodHandle accessor = MethodHandles.lookup().unreflect(accessors[i]);
+            CallSite lambdaSite = LambdaMetafactory.metafactory(
+                MethodHandles.lookup(),
+                "apply",
+                MethodType.methodType(Function.class),
+                MethodType.methodType(Object.class, Object.class),
+                accessor,
+                accessor.type());
+            lambdas[i] = (Function<Value, String>) lambdaSite.getTarget().invokeExact();
+            generated[i] = AccessorGenerator.method(MethodHandles.lookup(), Function.class, accessors[i]);
+        }
+        constructor = Value.class.getDeclaredConstructor(types);
+        constructorAccessible = Value.class.getDeclaredConstructor(types);
+        constructorAccessible.setAccessible(true);
+        methodHandle = reconstruct(MethodHandles.lookup());
+
+        MethodHandle canonical = MethodHandles.lookup().unreflectConstructor(constructor);
+        CallSite factorySite = LambdaMetafactory.metafactory(
+            MethodHandles.lookup(),
+            "create",
+            MethodType.methodType(CustomFactory.class),
+            canonical.type(),
+            canonical,
+            canonical.type());
+        lambdaFactory = (CustomFactory) factorySite.getTarget().invokeExact();
+        generatedFactory = AccessorGenerator.constructor(MethodHandles.lookup(), CustomFactory.class, constructor);
+    }
+
+    @Benchmark
+    public Object normal() {
+        return new Value(value.a(), value.b(), value.c(), value.d());
+    }
+
+    @Benchmark
+    public Object reflection() throws Exception {
+        return constructor.newInstance(accessors[0].invoke(value), accessors[1].invoke(value),
+                                       accessors[2].invoke(value), accessors[3].invoke(value));
+    }
+
+    @Benchmark
+    public Object reflectionAccessible() throws Exception {
+        return constructorAccessible.newInstance(accessorsAccessible[0].invoke(value), accessorsAccessible[1].invoke(value),
+                                                 accessorsAccessible[2].invoke(value), accessorsAccessible[3].invoke(value));
+    }
+
+    @Benchmark
+    public Object handle() throws Throwable {
+        return methodHandle.invoke(value);
+    }
+
+    @Benchmark
+    public Object handleExact() throws Throwable {
+        return (Value) methodHandle.invokeExact(value);
+    }
+
+    @Benchmark
+    public Object handleInline() throws Throwable {
+        return METHOD_HANDLE_INLINE.invoke(value);
+    }
+
+    @Benchmark
+    public Object handleExactInline() throws Throwable {
+        return (Value) METHOD_HANDLE_INLINE.invokeExact(value);
+    }
+
+    @Benchmark
+    public Object lambda() {
+        return lambdaFactory.create(lambdas[0].apply(value), lambdas[1].apply(value),
+                                    lambdas[2].apply(value), lambdas[3].apply(value));
+    }
+
+    @Benchmark
+    public Object generated() {
+        return generatedFactory.create(generated[0].apply(value), generated[1].apply(value),
+                                       generated[2].apply(value), generated[3].apply(value));
+    }
+}
@@ -0,0 +1,82 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The lookups of {@link LookupMembersBenchmark} that require Java 9: var handles and private access via
+ * {@code privateLookupIn}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LookupJava9Benchmark {
+
+    @Param({"10", "100", "1000"})
+    private int members;
+
+    private String privateName = "privateMethod", fieldName = "value", staticFieldName = "staticValue", privateFieldName = "privateValue";
+
+    private MethodHandles.Lookup lookup, lookupPrivate;
+
+    private MethodType methodType;
+
+    private Class<?> fieldType = String.class, declaringType;
+
+    private Field field;
+
+    @Setup
+    public void setup() throws Exception {
+        declaringType = LookupTargets.define(members);
+        lookup = MethodHandles.lookup();
+        lookupPrivate = MethodHandles.privateLookupIn(declaringType, lookup);
+        methodType = MethodType.methodType(void.class);
+        field = declaringType.getDeclaredField(fieldName);
+    }
+
+    @Benchmark
+    public VarHandle varHandle() throws Exception {
+        return lookup.findVarHandle(declaringType, fieldName, fieldType);
+    }
+
+    @Benchmark
+    public VarHandle varHandleStatic() throws Exception {
+        return lookup.findStaticVarHandle(declaringType, staticFieldName, fieldType);
+    }
+
+    @Benchmark
+    public VarHandle varHandleUnreflected() throws Exception {
+        return lookup.unreflectVarHandle(declaringType.getDeclaredField(fieldName));
+    }
+
+    @Benchmark
+    public VarHandle varHandleUnreflectedPreResolved() throws Exception {
+        return lookup.unreflectVarHandle(field);
+    }
+
+    @Benchmark
+    public VarHandle varHandlePrivate() throws Exception {
+        return lookupPrivate.findVarHandle(declaringType, privateFieldName, fieldType);
+    }
+
+    @Benchmark
+    public MethodHandles.Lookup privateLookupIn() throws Exception {
+        return MethodHandles.privateLookupIn(declaringType, lookup);
+    }
+
+    @Benchmark
+    public MethodHandle handlePrivate() throws Exception {
+        return MethodHandles.privateLookupIn(declaringType, lookup).findVirtual(declaringType, privateName, methodType);
+    }
+
+    @Benchmark
+    public MethodHandle handlePrivatePreLookedUp() throws Exception {
+        return lookupPrivate.findVirtual(declaringType, privateName, methodType);
+    }
+}
@@ -0,0 +1,66 @@
+package benchmark.access;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.function.Supplier;
+
+/**
+ * Creates {@link Deserializer}s like {@link Deserializers} that write fields through {@link VarHandle}s, which require
+ * Java 9. Objects are constructed with method handles like {@link Deserializers#handles(MethodHandles.Lookup, Class)}.
+ */
+public final class VarHandleDeserializers {
+
+    private VarHandleDeserializers() {
+        /* static only */
+    }
+
+    public static Deserializer varHandles(MethodHandles.Lookup lookup, Class<?> type) {
+        return Deserializers.of(type, new Deserializers.Backend() {
+            @Override
+            Supplier<?> constructor(Constructor<?> constructor) throws ReflectiveOperationException {
+                MethodHandle handle = lookup.unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+                return () -> {
+                    try {
+                        return (Object) handle.invokeExact();
+                    } catch (Throwable throwable) {
+                        throw Deserializers.rethrow(throwable);
+                    }
+                };
+            }
+
+            @Override
+            Deserializers.BooleanSetter booleanSetter(Field field) throws ReflectiveOperationException {
+                VarHandle handle = lookup.unreflectVarHandle(field);
+                return (target, value) -> handle.set(target, value);
+            }
+
+            @Override
+            Deserializers.IntSetter intSetter(Field field) throws ReflectiveOperationException {
+                VarHandle handle = lookup.unreflectVarHandle(field);
+                return (target, value) -> handle.set(target, value);
+            }
+
+            @Override
+            Deserializers.LongSetter longSetter(Field field) throws ReflectiveOperationException {
+                VarHandle handle = lookup.unreflectVarHandle(field);
+                return (target, value) -> handle.set(target, value);
+            }
+
+            @Override
+            Deserializers.DoubleSetter doubleSetter(Field field) throws ReflectiveOperationException {
+                VarHandle handle = lookup.unreflectVarHandle(field);
+                return (target, value) -> handle.set(target, value);
+            }
+
+            @Override
+            Deserializers.ObjectSetter objectSetter(Field field) throws ReflectiveOperationException {
+                VarHandle handle = lookup.unreflectVarHandle(field);
+                return (target, value) -> handle.set(target, value);
+            }
+        });
+    }
+}
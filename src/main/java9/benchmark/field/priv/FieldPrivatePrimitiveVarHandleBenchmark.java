@@ -0,0 +1,177 @@
+package benchmark.field.priv;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FieldPrivatePrimitiveVarHandleBenchmark {
+
+    enum Access {
+
+        INSTANCE;
+
+        private int value = 42;
+    }
+
+    private int newValue = 43;
+
+    private VarHandle
+        varHandle,
+        varHandleUnreflected;
+
+    private static final VarHandle
+        VAR_HANDLE_INLINE,
+        VAR_HANDLE_UNREFLECTED_INLINE;
+
+    static {
+        try {
+            MethodHandles.Lookup lookupPrivate = MethodHandles.privateLookupIn(Access.class, MethodHandles.lookup());
+            VAR_HANDLE_INLINE = lookupPrivate.findVarHandle(Access.class, "value", int.class);
+            VAR_HANDLE_UNREFLECTED_INLINE = lookupPrivate.unreflectVarHandle(Access.class.getDeclaredField("value"));
+        } catch (Exception e) {
+            throw new AssertionError();
+        }
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        MethodHandles.Lookup lookupPrivate = MethodHandles.privateLookupIn(Access.class, MethodHandles.lookup());
+        varHandle = lookupPrivate.findVarHandle(Access.class, "value", int.class);
+        varHandleUnreflected = lookupPrivate.unreflectVarHandle(Access.class.getDeclaredField("value"));
+    }
+
+    @Benchmark
+    public int normal() {
+        return Access.INSTANCE.value; // accessor method
+    }
+
+    @Benchmark
+    public void normalSet() {
+        Access.INSTANCE.value = newValue; // accessor method
+    }
+
+    @Benchmark
+    public int get() {
+        return (int) varHandle.get(Access.INSTANCE);
+    }
+
+    @Benchmark
+    public int getOpaque() {
+        return (int) varHandle.getOpaque(Access.INSTANCE);
+    }
+
+    @Benchmark
+    public int getAcquire() {
+        return (int) varHandle.getAcquire(Access.INSTANCE);
+    }
+
+    @Benchmark
+    public int getVolatile() {
+        return (int) varHandle.getVolatile(Access.INSTANCE);
+    }
+
+    @Benchmark
+    public void set() {
+        varHandle.set(Access.INSTANCE, newValue);
+    }
+
+    @Benchmark
+    public void setOpaque() {
+        varHandle.setOpaque(Access.INSTANCE, newValue);
+    }
+
+    @Benchmark
+    public void setRelease() {
+        varHandle.setRelease(Access.INSTANCE, newValue);
+    }
+
+    @Benchmark
+    public void setVolatile() {
+        varHandle.setVolatile(Access.INSTANCE, newValue);
+    }
+
+    @Benchmark
+    public boolean compareAndSet() {
+        return (boolean) varHandle.compareAndSet(Access.INSTANCE, Access.INSTANCE.value, newValue);
+    }
+
+    @Benchmark
+    public int getAndAdd() {
+        return (int) varHandle.getAndAdd(Access.INSTANCE, 1);
+    }
+
+    @Benchmark
+    public int getInline() {
+        return (int) VAR_HANDLE_INLINE.get(Access.INSTANCE);
+    }
+
+    @Benchmark
+    public int getOpaqueInline() {
+        return (int) VAR_HANDLE_INLINE.getOpaque(Access.INSTANCE);
+    }
+
+    @Benchmark
+    public int getAcquireInline() {
+        return (int) VAR_HANDLE_INLINE.getAcquire(Access.INSTANCE);
+    }
+
+    @Benchmark
+    public int getVolatileInline() {
+        return (int) VAR_HANDLE_INLINE.getVolatile(Access.INSTANCE);
+    }
+
+    @Benchmark
+    public void setInline() {
+        VAR_HANDLE_INLINE.set(Access.INSTANCE, newValue);
+    }
+
+    @Benchmark
+    public void setOpaqueInline() {
+        VAR_HANDLE_INLINE.setOpaque(Access.INSTANCE, newValue);
+    }
+
+    @Benchmark
+    public void setReleaseInline() {
+        VAR_HANDLE_INLINE.setRelease(Access.INSTANCE, newValue);
+    }
+
+    @Benchmark
+    public void setVolatileInline() {
+        VAR_HANDLE_INLINE.setVolatile(Access.INSTANCE, newValue);
+    }
+
+    @Benchmark
+    public boolean compareAndSetInline() {
+        return (boolean) VAR_HANDLE_INLINE.compareAndSet(Access.INSTANCE, Access.INSTANCE.value, newValue);
+    }
+
+    @Benchmark
+    public int getAndAddInline() {
+        return (int) VAR_HANDLE_INLINE.getAndAdd(Access.INSTANCE, 1);
+    }
+
+    @Benchmark
+    public int getUnreflected() {
+        return (int) varHandleUnreflected.get(Access.INSTANCE);
+    }
+
+    @Benchmark
+    public void setUnreflected() {
+        varHandleUnreflected.set(Access.INSTANCE, newValue);
+    }
+
+    @Benchmark
+    public int getUnreflectedInline() {
+        return (int) VAR_HANDLE_UNREFLECTED_INLINE.get(Access.INSTANCE);
+    }
+
+    @Benchmark
+    public void setUnreflectedInline() {
+        VAR_HANDLE_UNREFLECTED_INLINE.set(Access.INSTANCE, newValue);
+    }
+}
\ No newline at end of file
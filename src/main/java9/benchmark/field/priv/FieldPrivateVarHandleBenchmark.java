@@ -0,0 +1,157 @@
+package benchmark.field.priv;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FieldPrivateVarHandleBenchmark {
+
+    enum Access {
+
+        INSTANCE;
+
+        private String value = "bar";
+    }
+
+    private String newValue = "foo";
+
+    private VarHandle
+        varHandle,
+        varHandleUnreflected;
+
+    private static final VarHandle
+        VAR_HANDLE_INLINE,
+        VAR_HANDLE_UNREFLECTED_INLINE;
+
+    static {
+        try {
+            MethodHandles.Lookup lookupPrivate = MethodHandles.privateLookupIn(Access.class, MethodHandles.lookup());
+            VAR_HANDLE_INLINE = lookupPrivate.findVarHandle(Access.class, "value", String.class);
+            VAR_HANDLE_UNREFLECTED_INLINE = lookupPrivate.unreflectVarHandle(Access.class.getDeclaredField("value"));
+        } catch (Exception e) {
+            throw new AssertionError();
+        }
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        MethodHandles.Lookup lookupPrivate = MethodHandles.privateLookupIn(Access.class, MethodHandles.lookup());
+        varHandle = lookupPrivate.findVarHandle(Access.class, "value", String.class);
+        varHandleUnreflected = lookupPrivate.unreflectVarHandle(Access.class.getDeclaredField("value"));
+    }
+
+    @Benchmark
+    public String normal() {
+        return Access.INSTANCE.value; // accessor method
+    }
+
+    @Benchmark
+    public void normalSet() {
+        Access.INSTANCE.value = newValue; // accessor method
+    }
+
+    @Benchmark
+    public String get() {
+        return (String) varHandle.get(Access.INSTANCE);
+    }
+
+    @Benchmark
+    public String getOpaque() {
+        return (String) varHandle.getOpaque(Access.INSTANCE);
+    }
+
+    @Benchmark
+    public String getAcquire() {
+        return (String) varHandle.getAcquire(Access.INSTANCE);
+    }
+
+    @Benchmark
+    public String getVolatile() {
+        return (String) varHandle.getVolatile(Access.INSTANCE);
+    }
+
+    @Benchmark
+    public void set() {
+        varHandle.set(Access.INSTANCE, newValue);
+    }
+
+    @Benchmark
+    public void setOpaque() {
+        varHandle.setOpaque(Access.INSTANCE, newValue);
+    }
+
+    @Benchmark
+    public void setRelease() {
+        varHandle.setRelease(Access.INSTANCE, newValue);
+    }
+
+    @Benchmark
+    public void setVolatile() {
+        varHandle.setVolatile(Access.INSTANCE, newValue);
+    }
+
+    @Benchmark
+    public String getInline() {
+        return (String) VAR_HANDLE_INLINE.get(Access.INSTANCE);
+    }
+
+    @Benchmark
+    public String getOpaqueInline() {
+        return (String) VAR_HANDLE_INLINE.getOpaque(Access.INSTANCE);
+    }
+
+    @Benchmark
+    public String getAcquireInline() {
+        return (String) VAR_HANDLE_INLINE.getAcquire(Access.INSTANCE);
+    }
+
+    @Benchmark
+    public String getVolatileInline() {
+        return (String) VAR_HANDLE_INLINE.getVolatile(Access.INSTANCE);
+    }
+
+    @Benchmark
+    public void setInline() {
+        VAR_HANDLE_INLINE.set(Access.INSTANCE, newValue);
+    }
+
+    @Benchmark
+    public void setOpaqueInline() {
+        VAR_HANDLE_INLINE.setOpaque(Access.INSTANCE, newValue);
+    }
+
+    @Benchmark
+    public void setReleaseInline() {
+        VAR_HANDLE_INLINE.setRelease(Access.INSTANCE, newValue);
+    }
+
+    @Benchmark
+    public void setVolatileInline() {
+        VAR_HANDLE_INLINE.setVolatile(Access.INSTANCE, newValue);
+    }
+
+    @Benchmark
+    public String getUnreflected() {
+        return (String) varHandleUnreflected.get(Access.INSTANCE);
+    }
+
+    @Benchmark
+    public void setUnreflected() {
+        varHandleUnreflected.set(Access.INSTANCE, newValue);
+    }
+
+    @Benchmark
+    public String getUnreflectedInline() {
+        return (String) VAR_HANDLE_UNREFLECTED_INLINE.get(Access.INSTANCE);
+    }
+
+    @Benchmark
+    public void setUnreflectedInline() {
+        VAR_HANDLE_UNREFLECTED_INLINE.set(Access.INSTANCE, newValue);
+    }
+}
\ No newline at end of file
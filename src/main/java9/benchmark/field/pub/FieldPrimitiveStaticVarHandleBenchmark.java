@@ -0,0 +1,170 @@
+package benchmark.field.pub;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FieldPrimitiveStaticVarHandleBenchmark {
+
+    public static int value = 42;
+
+    private int newValue = 43;
+
+    private VarHandle
+        varHandle,
+        varHandleUnreflected;
+
+    private static final VarHandle
+        VAR_HANDLE_INLINE,
+        VAR_HANDLE_UNREFLECTED_INLINE;
+
+    static {
+        try {
+            VAR_HANDLE_INLINE = MethodHandles.lookup().findStaticVarHandle(FieldPrimitiveStaticVarHandleBenchmark.class, "value", int.class);
+            VAR_HANDLE_UNREFLECTED_INLINE = MethodHandles.lookup().unreflectVarHandle(FieldPrimitiveStaticVarHandleBenchmark.class.getDeclaredField("value"));
+        } catch (Exception e) {
+            throw new AssertionError();
+        }
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        varHandle = MethodHandles.lookup().findStaticVarHandle(FieldPrimitiveStaticVarHandleBenchmark.class, "value", int.class);
+        varHandleUnreflected = MethodHandles.lookup().unreflectVarHandle(FieldPrimitiveStaticVarHandleBenchmark.class.getDeclaredField("value"));
+    }
+
+    @Benchmark
+    public int normal() {
+        return value;
+    }
+
+    @Benchmark
+    public void normalSet() {
+        value = newValue;
+    }
+
+    @Benchmark
+    public int get() {
+        return (int) varHandle.get();
+    }
+
+    @Benchmark
+    public int getOpaque() {
+        return (int) varHandle.getOpaque();
+    }
+
+    @Benchmark
+    public int getAcquire() {
+        return (int) varHandle.getAcquire();
+    }
+
+    @Benchmark
+    public int getVolatile() {
+        return (int) varHandle.getVolatile();
+    }
+
+    @Benchmark
+    public void set() {
+        varHandle.set(newValue);
+    }
+
+    @Benchmark
+    public void setOpaque() {
+        varHandle.setOpaque(newValue);
+    }
+
+    @Benchmark
+    public void setRelease() {
+        varHandle.setRelease(newValue);
+    }
+
+    @Benchmark
+    public void setVolatile() {
+        varHandle.setVolatile(newValue);
+    }
+
+    @Benchmark
+    public boolean compareAndSet() {
+        return (boolean) varHandle.compareAndSet(value, newValue);
+    }
+
+    @Benchmark
+    public int getAndAdd() {
+        return (int) varHandle.getAndAdd(1);
+    }
+
+    @Benchmark
+    public int getInline() {
+        return (int) VAR_HANDLE_INLINE.get();
+    }
+
+    @Benchmark
+    public int getOpaqueInline() {
+        return (int) VAR_HANDLE_INLINE.getOpaque();
+    }
+
+    @Benchmark
+    public int getAcquireInline() {
+        return (int) VAR_HANDLE_INLINE.getAcquire();
+    }
+
+    @Benchmark
+    public int getVolatileInline() {
+        return (int) VAR_HANDLE_INLINE.getVolatile();
+    }
+
+    @Benchmark
+    public void setInline() {
+        VAR_HANDLE_INLINE.set(newValue);
+    }
+
+    @Benchmark
+    public void setOpaqueInline() {
+        VAR_HANDLE_INLINE.setOpaque(newValue);
+    }
+
+    @Benchmark
+    public void setReleaseInline() {
+        VAR_HANDLE_INLINE.setRelease(newValue);
+    }
+
+    @Benchmark
+    public void setVolatileInline() {
+        VAR_HANDLE_INLINE.setVolatile(newValue);
+    }
+
+    @Benchmark
+    public boolean compareAndSetInline() {
+        return (boolean) VAR_HANDLE_INLINE.compareAndSet(value, newValue);
+    }
+
+    @Benchmark
+    public int getAndAddInline() {
+        return (int) VAR_HANDLE_INLINE.getAndAdd(1);
+    }
+
+    @Benchmark
+    public int getUnreflected() {
+        return (int) varHandleUnreflected.get();
+    }
+
+    @Benchmark
+    public void setUnreflected() {
+        varHandleUnreflected.set(newValue);
+    }
+
+    @Benchmark
+    public int getUnreflectedInline() {
+        return (int) VAR_HANDLE_UNREFLECTED_INLINE.get();
+    }
+
+    @Benchmark
+    public void setUnreflectedInline() {
+        VAR_HANDLE_UNREFLECTED_INLINE.set(newValue);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,170 @@
+package benchmark.field.pub;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FieldPrimitiveVarHandleBenchmark {
+
+    public int value = 42;
+
+    private int newValue = 43;
+
+    private VarHandle
+        varHandle,
+        varHandleUnreflected;
+
+    private static final VarHandle
+        VAR_HANDLE_INLINE,
+        VAR_HANDLE_UNREFLECTED_INLINE;
+
+    static {
+        try {
+            VAR_HANDLE_INLINE = MethodHandles.lookup().findVarHandle(FieldPrimitiveVarHandleBenchmark.class, "value", int.class);
+            VAR_HANDLE_UNREFLECTED_INLINE = MethodHandles.lookup().unreflectVarHandle(FieldPrimitiveVarHandleBenchmark.class.getDeclaredField("value"));
+        } catch (Exception e) {
+            throw new AssertionError();
+        }
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        varHandle = MethodHandles.lookup().findVarHandle(FieldPrimitiveVarHandleBenchmark.class, "value", int.class);
+        varHandleUnreflected = MethodHandles.lookup().unreflectVarHandle(FieldPrimitiveVarHandleBenchmark.class.getDeclaredField("value"));
+    }
+
+    @Benchmark
+    public int normal() {
+        return value;
+    }
+
+    @Benchmark
+    public void normalSet() {
+        value = newValue;
+    }
+
+    @Benchmark
+    public int get() {
+        return (int) varHandle.get(this);
+    }
+
+    @Benchmark
+    public int getOpaque() {
+        return (int) varHandle.getOpaque(this);
+    }
+
+    @Benchmark
+    public int getAcquire() {
+        return (int) varHandle.getAcquire(this);
+    }
+
+    @Benchmark
+    public int getVolatile() {
+        return (int) varHandle.getVolatile(this);
+    }
+
+    @Benchmark
+    public void set() {
+        varHandle.set(this, newValue);
+    }
+
+    @Benchmark
+    public void setOpaque() {
+        varHandle.setOpaque(this, newValue);
+    }
+
+    @Benchmark
+    public void setRelease() {
+        varHandle.setRelease(this, newValue);
+    }
+
+    @Benchmark
+    public void setVolatile() {
+        varHandle.setVolatile(this, newValue);
+    }
+
+    @Benchmark
+    public boolean compareAndSet() {
+        return (boolean) varHandle.compareAndSet(this, value, newValue);
+    }
+
+    @Benchmark
+    public int getAndAdd() {
+        return (int) varHandle.getAndAdd(this, 1);
+    }
+
+    @Benchmark
+    public int getInline() {
+        return (int) VAR_HANDLE_INLINE.get(this);
+    }
+
+    @Benchmark
+    public int getOpaqueInline() {
+        return (int) VAR_HANDLE_INLINE.getOpaque(this);
+    }
+
+    @Benchmark
+    public int getAcquireInline() {
+        return (int) VAR_HANDLE_INLINE.getAcquire(this);
+    }
+
+    @Benchmark
+    public int getVolatileInline() {
+        return (int) VAR_HANDLE_INLINE.getVolatile(this);
+    }
+
+    @Benchmark
+    public void setInline() {
+        VAR_HANDLE_INLINE.set(this, newValue);
+    }
+
+    @Benchmark
+    public void setOpaqueInline() {
+        VAR_HANDLE_INLINE.setOpaque(this, newValue);
+    }
+
+    @Benchmark
+    public void setReleaseInline() {
+        VAR_HANDLE_INLINE.setRelease(this, newValue);
+    }
+
+    @Benchmark
+    public void setVolatileInline() {
+        VAR_HANDLE_INLINE.setVolatile(this, newValue);
+    }
+
+    @Benchmark
+    public boolean compareAndSetInline() {
+        return (boolean) VAR_HANDLE_INLINE.compareAndSet(this, value, newValue);
+    }
+
+    @Benchmark
+    public int getAndAddInline() {
+        return (int) VAR_HANDLE_INLINE.getAndAdd(this, 1);
+    }
+
+    @Benchmark
+    public int getUnreflected() {
+        return (int) varHandleUnreflected.get(this);
+    }
+
+    @Benchmark
+    public void setUnreflected() {
+        varHandleUnreflected.set(this, newValue);
+    }
+
+    @Benchmark
+    public int getUnreflectedInline() {
+        return (int) VAR_HANDLE_UNREFLECTED_INLINE.get(this);
+    }
+
+    @Benchmark
+    public void setUnreflectedInline() {
+        VAR_HANDLE_UNREFLECTED_INLINE.set(this, newValue);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,150 @@
+package benchmark.field.pub;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FieldStaticVarHandleBenchmark {
+
+    public static String value = "foo";
+
+    private String newValue = "bar";
+
+    private VarHandle
+        varHandle,
+        varHandleUnreflected;
+
+    private static final VarHandle
+        VAR_HANDLE_INLINE,
+        VAR_HANDLE_UNREFLECTED_INLINE;
+
+    static {
+        try {
+            VAR_HANDLE_INLINE = MethodHandles.lookup().findStaticVarHandle(FieldStaticVarHandleBenchmark.class, "value", String.class);
+            VAR_HANDLE_UNREFLECTED_INLINE = MethodHandles.lookup().unreflectVarHandle(FieldStaticVarHandleBenchmark.class.getDeclaredField("value"));
+        } catch (Exception e) {
+            throw new AssertionError();
+        }
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        varHandle = MethodHandles.lookup().findStaticVarHandle(FieldStaticVarHandleBenchmark.class, "value", String.class);
+        varHandleUnreflected = MethodHandles.lookup().unreflectVarHandle(FieldStaticVarHandleBenchmark.class.getDeclaredField("value"));
+    }
+
+    @Benchmark
+    public String normal() {
+        return value;
+    }
+
+    @Benchmark
+    public void normalSet() {
+        value = newValue;
+    }
+
+    @Benchmark
+    public String get() {
+        return (String) varHandle.get();
+    }
+
+    @Benchmark
+    public String getOpaque() {
+        return (String) varHandle.getOpaque();
+    }
+
+    @Benchmark
+    public String getAcquire() {
+        return (String) varHandle.getAcquire();
+    }
+
+    @Benchmark
+    public String getVolatile() {
+        return (String) varHandle.getVolatile();
+    }
+
+    @Benchmark
+    public void set() {
+        varHandle.set(newValue);
+    }
+
+    @Benchmark
+    public void setOpaque() {
+        varHandle.setOpaque(newValue);
+    }
+
+    @Benchmark
+    public void setRelease() {
+        varHandle.setRelease(newValue);
+    }
+
+    @Benchmark
+    public void setVolatile() {
+        varHandle.setVolatile(newValue);
+    }
+
+    @Benchmark
+    public String getInline() {
+        return (String) VAR_HANDLE_INLINE.get();
+    }
+
+    @Benchmark
+    public String getOpaqueInline() {
+        return (String) VAR_HANDLE_INLINE.getOpaque();
+    }
+
+    @Benchmark
+    public String getAcquireInline() {
+        return (String) VAR_HANDLE_INLINE.getAcquire();
+    }
+
+    @Benchmark
+    public String getVolatileInline() {
+        return (String) VAR_HANDLE_INLINE.getVolatile();
+    }
+
+    @Benchmark
+    public void setInline() {
+        VAR_HANDLE_INLINE.set(newValue);
+    }
+
+    @Benchmark
+    public void setOpaqueInline() {
+        VAR_HANDLE_INLINE.setOpaque(newValue);
+    }
+
+    @Benchmark
+    public void setReleaseInline() {
+        VAR_HANDLE_INLINE.setRelease(newValue);
+    }
+
+    @Benchmark
+    public void setVolatileInline() {
+        VAR_HANDLE_INLINE.setVolatile(newValue);
+    }
+
+    @Benchmark
+    public String getUnreflected() {
+        return (String) varHandleUnreflected.get();
+    }
+
+    @Benchmark
+    public void setUnreflected() {
+        varHandleUnreflected.set(newValue);
+    }
+
+    @Benchmark
+    public String getUnreflectedInline() {
+        return (String) VAR_HANDLE_UNREFLECTED_INLINE.get();
+    }
+
+    @Benchmark
+    public void setUnreflectedInline() {
+        VAR_HANDLE_UNREFLECTED_INLINE.set(newValue);
+    }
+}
\ No newline at end of file
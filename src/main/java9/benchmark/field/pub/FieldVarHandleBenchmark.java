@@ -0,0 +1,150 @@
+package benchmark.field.pub;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FieldVarHandleBenchmark {
+
+    public String value = "foo";
+
+    private String newValue = "bar";
+
+    private VarHandle
+        varHandle,
+        varHandleUnreflected;
+
+    private static final VarHandle
+        VAR_HANDLE_INLINE,
+        VAR_HANDLE_UNREFLECTED_INLINE;
+
+    static {
+        try {
+            VAR_HANDLE_INLINE = MethodHandles.lookup().findVarHandle(FieldVarHandleBenchmark.class, "value", String.class);
+            VAR_HANDLE_UNREFLECTED_INLINE = MethodHandles.lookup().unreflectVarHandle(FieldVarHandleBenchmark.class.getDeclaredField("value"));
+        } catch (Exception e) {
+            throw new AssertionError();
+        }
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        varHandle = MethodHandles.lookup().findVarHandle(FieldVarHandleBenchmark.class, "value", String.class);
+        varHandleUnreflected = MethodHandles.lookup().unreflectVarHandle(FieldVarHandleBenchmark.class.getDeclaredField("value"));
+    }
+
+    @Benchmark
+    public String normal() {
+        return value;
+    }
+
+    @Benchmark
+    public void normalSet() {
+        value = newValue;
+    }
+
+    @Benchmark
+    public String get() {
+        return (String) varHandle.get(this);
+    }
+
+    @Benchmark
+    public String getOpaque() {
+        return (String) varHandle.getOpaque(this);
+    }
+
+    @Benchmark
+    public String getAcquire() {
+        return (String) varHandle.getAcquire(this);
+    }
+
+    @Benchmark
+    public String getVolatile() {
+        return (String) varHandle.getVolatile(this);
+    }
+
+    @Benchmark
+    public void set() {
+        varHandle.set(this, newValue);
+    }
+
+    @Benchmark
+    public void setOpaque() {
+        varHandle.setOpaque(this, newValue);
+    }
+
+    @Benchmark
+    public void setRelease() {
+        varHandle.setRelease(this, newValue);
+    }
+
+    @Benchmark
+    public void setVolatile() {
+        varHandle.setVolatile(this, newValue);
+    }
+
+    @Benchmark
+    public String getInline() {
+        return (String) VAR_HANDLE_INLINE.get(this);
+    }
+
+    @Benchmark
+    public String getOpaqueInline() {
+        return (String) VAR_HANDLE_INLINE.getOpaque(this);
+    }
+
+    @Benchmark
+    public String getAcquireInline() {
+        return (String) VAR_HANDLE_INLINE.getAcquire(this);
+    }
+
+    @Benchmark
+    public String getVolatileInline() {
+        return (String) VAR_HANDLE_INLINE.getVolatile(this);
+    }
+
+    @Benchmark
+    public void setInline() {
+        VAR_HANDLE_INLINE.set(this, newValue);
+    }
+
+    @Benchmark
+    public void setOpaqueInline() {
+        VAR_HANDLE_INLINE.setOpaque(this, newValue);
+    }
+
+    @Benchmark
+    public void setReleaseInline() {
+        VAR_HANDLE_INLINE.setRelease(this, newValue);
+    }
+
+    @Benchmark
+    public void setVolatileInline() {
+        VAR_HANDLE_INLINE.setVolatile(this, newValue);
+    }
+
+    @Benchmark
+    public String getUnreflected() {
+        return (String) varHandleUnreflected.get(this);
+    }
+
+    @Benchmark
+    public void setUnreflected() {
+        varHandleUnreflected.set(this, newValue);
+    }
+
+    @Benchmark
+    public String getUnreflectedInline() {
+        return (String) VAR_HANDLE_UNREFLECTED_INLINE.get(this);
+    }
+
+    @Benchmark
+    public void setUnreflectedInline() {
+        VAR_HANDLE_UNREFLECTED_INLINE.set(this, newValue);
+    }
+}
\ No newline at end of file
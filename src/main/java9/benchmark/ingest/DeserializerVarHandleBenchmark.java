@@ -0,0 +1,47 @@
+package benchmark.ingest;
+
+import benchmark.access.Deserializer;
+import benchmark.access.VarHandleDeserializers;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link DeserializerBenchmark} with fields written through var handles, which require Java 9.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DeserializerVarHandleBenchmark {
+
+    @Param({"1", "64", "2048"})
+    private int megabytes;
+
+    private Records file;
+
+    private Deserializer varHandles;
+
+    @Setup
+    public void setup() throws Exception {
+        file = Records.write((long) megabytes << 20);
+        varHandles = VarHandleDeserializers.varHandles(MethodHandles.lookup(), Reading.class);
+        DeserializerBenchmark.verify(file, varHandles);
+    }
+
+    @TearDown
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public long varHandle(DeserializerBenchmark.Input input, Blackhole blackhole) {
+        long count = file.read(varHandles, blackhole);
+        input.records += count;
+        return count;
+    }
+}
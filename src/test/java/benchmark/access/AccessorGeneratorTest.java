@@ -0,0 +1,63 @@
+package benchmark.access;
+
+import org.junit.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+
+public class AccessorGeneratorTest {
+
+    public interface Named {
+
+        String name();
+
+        default String greeting() {
+            return "hello " + name();
+        }
+
+        static String anonymous() {
+            return "anonymous";
+        }
+    }
+
+    public static class Person implements Named {
+
+        @Override
+        public String name() {
+            return "foo";
+        }
+    }
+
+    @Test
+    public void abstractInterfaceMethod() throws Exception {
+        Function<Named, String> accessor = AccessorGenerator.method(MethodHandles.lookup(), Function.class, Named.class.getMethod("name"));
+        assertEquals("foo", accessor.apply(new Person()));
+    }
+
+    @Test
+    public void defaultInterfaceMethod() throws Exception {
+        Function<Named, String> accessor = AccessorGenerator.method(MethodHandles.lookup(), Function.class, Named.class.getMethod("greeting"));
+        assertEquals("hello foo", accessor.apply(new Person()));
+    }
+
+    @Test
+    public void staticInterfaceMethod() throws Exception {
+        Supplier<String> accessor = AccessorGenerator.method(MethodHandles.lookup(), Supplier.class, Named.class.getMethod("anonymous"));
+        assertEquals("anonymous", accessor.get());
+    }
+
+    @Test
+    public void delegateToInterfaceMethod() throws Exception {
+        Supplier<String> accessor = AccessorGenerator.delegate(MethodHandles.lookup(), Supplier.class, Named.class.getMethod("greeting"), new Person());
+        assertEquals("hello foo", accessor.get());
+    }
+
+    @Test
+    public void classMethod() throws Exception {
+        Function<Person, String> accessor = AccessorGenerator.method(MethodHandles.lookup(), Function.class, Person.class.getMethod("name"));
+        assertEquals("foo", accessor.apply(new Person()));
+    }
+}
@@ -0,0 +1,135 @@
+package benchmark.report;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CompareTest {
+
+    private static final String HEADER = "\"Benchmark\",\"Mode\",\"Threads\",\"Samples\",\"Score\",\"Score Error (99.9%)\",\"Unit\"";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final Compare compare = new Compare(0.05, false, new PrintStream(new ByteArrayOutputStream()));
+
+    @Test
+    public void slowerWithoutOverlapIsRegression() throws IOException {
+        assertEquals(Compare.Status.REGRESSION, compare.status(row("avgt", 10, 1), row("avgt", 20, 1)));
+    }
+
+    @Test
+    public void fasterWithoutOverlapIsImprovement() throws IOException {
+        assertEquals(Compare.Status.IMPROVEMENT, compare.status(row("avgt", 20, 1), row("avgt", 10, 1)));
+    }
+
+    @Test
+    public void higherThroughputIsImprovement() throws IOException {
+        assertEquals(Compare.Status.IMPROVEMENT, compare.status(row("thrpt", 10, 1), row("thrpt", 20, 1)));
+        assertEquals(Compare.Status.REGRESSION, compare.status(row("thrpt", 20, 1), row("thrpt", 10, 1)));
+    }
+
+    @Test
+    public void overlappingIntervalsAreUnchanged() throws IOException {
+        assertEquals(Compare.Status.UNCHANGED, compare.status(row("avgt", 10, 5), row("avgt", 20, 6)));
+    }
+
+    @Test
+    public void changeBelowThresholdIsUnchanged() throws IOException {
+        assertEquals(Compare.Status.UNCHANGED, compare.status(row("avgt", 100, 0), row("avgt", 104, 0)));
+    }
+
+    @Test
+    public void missingErrorComparesScoresAlone() throws IOException {
+        assertEquals(Compare.Status.REGRESSION, compare.status(row("avgt", 10, Double.NaN), row("avgt", 20, Double.NaN)));
+    }
+
+    @Test
+    public void differentModeIsIncomparable() throws IOException {
+        assertEquals(Compare.Status.INCOMPARABLE, compare.status(row("avgt", 10, 1), row("sample", 10, 1)));
+    }
+
+    @Test
+    public void zeroBaseline() throws IOException {
+        assertEquals(Compare.Status.UNCHANGED, compare.status(row("avgt", 0, 0), row("avgt", 0, 0)));
+        assertEquals(Compare.Status.REGRESSION, compare.status(row("avgt", 0, 0), row("avgt", 1, 0)));
+        assertEquals("(n/a)", Compare.percent(Compare.change(0, 1)));
+        assertEquals(0, Compare.change(0, 0), 0);
+    }
+
+    @Test
+    public void missingRowFails() throws IOException {
+        File baseline = folder.newFolder(), result = folder.newFolder();
+        write(new File(baseline, "A.csv"), line("a", 10), line("b", 10));
+        write(new File(result, "A.csv"), line("a", 10));
+        compare.compare(baseline, result);
+        assertEquals(1, compare.unchanged);
+        assertEquals(1, compare.missing);
+        assertFalse(compare.passed());
+    }
+
+    @Test
+    public void missingFileFails() throws IOException {
+        File baseline = folder.newFolder(), result = folder.newFolder();
+        write(new File(baseline, "A.csv"), line("a", 10), line("b", 10));
+        compare.compare(baseline, result);
+        assertEquals(2, compare.missing);
+        assertFalse(compare.passed());
+    }
+
+    @Test
+    public void missingIsAllowedOnRequest() throws IOException {
+        File baseline = folder.newFolder(), result = folder.newFolder();
+        write(new File(baseline, "A.csv"), line("a", 10));
+        Compare lenient = new Compare(0.05, true, new PrintStream(new ByteArrayOutputStream()));
+        lenient.compare(baseline, result);
+        assertEquals(1, lenient.missing);
+        assertTrue(lenient.passed());
+    }
+
+    @Test
+    public void regressionFails() throws IOException {
+        File baseline = folder.newFolder(), result = folder.newFolder();
+        write(new File(baseline, "A.csv"), line("a", 10));
+        write(new File(result, "A.csv"), line("a", 20));
+        compare.compare(baseline, result);
+        assertEquals(1, compare.regressions);
+        assertFalse(compare.passed());
+    }
+
+    @Test
+    public void secondaryRowsAreIgnored() throws IOException {
+        File baseline = folder.newFolder(), result = folder.newFolder();
+        write(new File(baseline, "A.csv"), line("a", 10), line("a:gc.count", 5));
+        write(new File(result, "A.csv"), line("a", 10));
+        compare.compare(baseline, result);
+        assertEquals(0, compare.missing);
+        assertTrue(compare.passed());
+    }
+
+    private ResultRow row(String mode, double score, double error) throws IOException {
+        File file = folder.newFile();
+        write(file, "\"x\",\"" + mode + "\",1,10," + score + "," + error + ",\"ns/op\"");
+        List<ResultRow> rows = ResultRow.read(file);
+        return rows.get(0);
+    }
+
+    private static String line(String benchmark, double score) {
+        return "\"" + benchmark + "\",\"avgt\",1,10," + score + ",0.1,\"ns/op\"";
+    }
+
+    private static void write(File file, String... lines) throws IOException {
+        try (Writer out = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            out.write(HEADER + "\r\n");
+            for (String line : lines) {
+                out.write(line + "\r\n");
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package benchmark.report;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class JdkMatrixTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void versionsAreOrderedNumerically() {
+        List<String> versions = Arrays.asList("21.0.2", "1.8.0_392", "17.0.16", "11.0.21", "17.0.9", "22");
+        versions.sort(JdkMatrix::compare);
+        assertEquals(Arrays.asList("1.8.0_392", "11.0.21", "17.0.9", "17.0.16", "21.0.2", "22"), versions);
+    }
+
+    @Test
+    public void columnsStartWithOldestJdk() throws IOException {
+        String table = print(
+            "\"b.X.reflection\",\"avgt\",1,10,6.2,0.3,\"ns/op\",21.0.2",
+            "\"b.X.reflection\",\"avgt\",1,10,20.5,1.0,\"ns/op\",1.8.0_392");
+        String header = table.split("\n")[1];
+        assertTrue(header.indexOf("1.8.0_392") < header.indexOf("21.0.2"));
+        assertTrue(table.contains("(-69.8%)"));
+    }
+
+    @Test
+    public void zeroScoreHasNoChange() throws IOException {
+        String table = print(
+            "\"b.X.reflection\",\"avgt\",1,10,0,0,\"ns/op\",1.8.0_392",
+            "\"b.X.reflection\",\"avgt\",1,10,1,0,\"ns/op\",21.0.2");
+        assertTrue(table.contains("(n/a)"));
+        assertFalse(table.contains("Infinity"));
+        assertFalse(table.contains("NaN"));
+    }
+
+    private String print(String... lines) throws IOException {
+        File file = folder.newFile("X.csv");
+        try (Writer out = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            out.write("\"Benchmark\",\"Mode\",\"Threads\",\"Samples\",\"Score\",\"Score Error (99.9%)\",\"Unit\",\"JDK\"\r\n");
+            for (String line : lines) {
+                out.write(line + "\r\n");
+            }
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (PrintStream out = new PrintStream(bytes, true, "UTF-8")) {
+            JdkMatrix.print(file, out);
+        }
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8).replace("\r", "");
+    }
+}